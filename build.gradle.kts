@@ -16,10 +16,16 @@ repositories {
 
 // Add a source set for the functional test suite.
 val functionalTest: SourceSet by sourceSets.creating
+// Add a source set for the optional byte scanner built on the incubating Vector API,
+// so that only it is compiled against the incubator module and gets the incubating module warning of javac.
+val vector: SourceSet by sourceSets.creating {
+	compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
+}
 
 dependencies {
 	compileOnly(libs.jspecify)
 	compileOnly(libs.jetbrains.annotations)
+	// Exact version, see the catalog: parts of the internal API of JGit are used.
 	api(libs.jgit)
 	// Use JUnit Jupiter for testing.
 	val junitPlatform = platform(libs.junit.bom)
@@ -80,14 +86,25 @@ tasks.withType<Javadoc>().configureEach {
 	}
 }
 
+// javac always warns about using incubating modules when compiling against them, and no lint option suppresses it,
+// so this is the one compile task which cannot be warning-free.
+tasks.named<JavaCompile>(vector.compileJavaTaskName) {
+	options.compilerArgs.addAll(listOf("--add-modules", "jdk.incubator.vector"))
+}
+
 tasks.jar {
 	inputs.property("archives_name", base.archivesName)
+	from(vector.output)
 
 	from("LICENSE") {
 		rename { "${it}_${inputs.properties["archives_name"]}" }
 	}
 }
 
+tasks.named<Jar>("sourcesJar") {
+	from(vector.allSource)
+}
+
 license {
 	rule(file("codeformat/HEADER"))
 	exclude("scenarios/**", "HEADER")
@@ -109,9 +126,19 @@ val functionalTestTask = tasks.register<Test>("functionalTest") {
 	classpath = functionalTest.runtimeClasspath
 }
 
+// Run the unit tests again with the byte scanner built on the Vector API.
+val vectorTestTask = tasks.register<Test>("vectorTest") {
+	group = "verification"
+	testClassesDirs = sourceSets.test.get().output.classesDirs
+	classpath = sourceSets.test.get().runtimeClasspath + vector.output
+	jvmArgs("--add-modules", "jdk.incubator.vector")
+	systemProperty("yumi.gradle.licenser.vector", true)
+}
+
 tasks.check {
 	// Run the functional tests as part of `check`.
 	dependsOn(functionalTestTask)
+	dependsOn(vectorTestTask)
 }
 
 tasks.withType<Test>().configureEach {
@@ -11,10 +11,13 @@ package dev.yumi.gradle.licenser;
 import dev.yumi.gradle.licenser.api.comment.HeaderCommentManager;
 import dev.yumi.gradle.licenser.api.rule.HeaderParseException;
 import dev.yumi.gradle.licenser.api.rule.HeaderRule;
+import dev.yumi.gradle.licenser.api.rule.LicenseYearBackend;
 import dev.yumi.gradle.licenser.impl.LicenseHeader;
+import dev.yumi.gradle.licenser.impl.git.GitCreationIndex;
 import dev.yumi.gradle.licenser.task.ApplyLicenseTask;
 import dev.yumi.gradle.licenser.task.CheckLicenseTask;
 import dev.yumi.gradle.licenser.task.SourceDirectoryBasedTask;
+import dev.yumi.gradle.licenser.task.work.WorkerProcesses;
 import dev.yumi.gradle.licenser.util.Utils;
 import groovy.lang.Closure;
 import groovy.lang.Delegate;
@@ -47,7 +50,7 @@ import java.util.Set;
  * Represents the Yumi Licenser Gradle extension to configure the plugin in buildscripts.
  *
  * @author LambdAurora
- * @version 4.0.0
+ * @version 4.1.0
  * @since 1.0.0
  */
 public abstract class YumiLicenserGradleExtension implements PatternFilterable {
@@ -62,6 +65,33 @@ public abstract class YumiLicenserGradleExtension implements PatternFilterable {
 	@PackageScope
 	final Property<Integer> projectCreationYear;
 
+	@PackageScope
+	final Property<Integer> gitRenameLimit;
+
+	@PackageScope
+	final Property<Boolean> gitCommitGraph;
+
+	@PackageScope
+	final Property<LicenseYearBackend> yearBackend;
+
+	@PackageScope
+	final Property<Integer> fileConcurrency;
+
+	@PackageScope
+	final Property<Integer> transformConcurrency;
+
+	@PackageScope
+	final Property<Integer> checkConcurrency;
+
+	@PackageScope
+	final Property<Boolean> workerProcessIsolation;
+
+	@PackageScope
+	final Property<String> workerMaxHeapSize;
+
+	@PackageScope
+	final Property<Boolean> workerClassDataSharing;
+
 	//region File selection
 
 	/**
@@ -98,6 +128,25 @@ public abstract class YumiLicenserGradleExtension implements PatternFilterable {
 		this.projectCreationYear = objects.property(Integer.class)
 				.convention(project.provider(() -> Utils.getProjectCreationYear(project)));
 
+		this.gitRenameLimit = objects.property(Integer.class)
+				.convention(GitCreationIndex.DEFAULT_RENAME_LIMIT);
+		this.gitCommitGraph = objects.property(Boolean.class)
+				.convention(false);
+		this.yearBackend = objects.property(LicenseYearBackend.class)
+				.convention(LicenseYearBackend.JGIT);
+		this.fileConcurrency = objects.property(Integer.class)
+				.convention(1);
+		this.transformConcurrency = objects.property(Integer.class)
+				.convention(Runtime.getRuntime().availableProcessors());
+		this.checkConcurrency = objects.property(Integer.class)
+				.convention(Runtime.getRuntime().availableProcessors());
+		this.workerProcessIsolation = objects.property(Boolean.class)
+				.convention(false);
+		this.workerMaxHeapSize = objects.property(String.class)
+				.convention(WorkerProcesses.DEFAULT_MAX_HEAP_SIZE);
+		this.workerClassDataSharing = objects.property(Boolean.class)
+				.convention(true);
+
 		this.patternFilterable = new PatternSet();
 		this.exclude(
 				"**/*.txt",
@@ -203,6 +252,135 @@ public abstract class YumiLicenserGradleExtension implements PatternFilterable {
 		return this.projectCreationYear;
 	}
 
+	/**
+	 * {@return the property of the maximum number of files compared to detect renames in a single commit
+	 * when resolving the creation year of files from the Git history}
+	 * <p>
+	 * Rename detection lets files keep their creation year when they are moved, but compares the content
+	 * of every added file with every deleted one. Setting this to {@code 0} disables rename detection.
+	 *
+	 * @since 4.1.0
+	 */
+	@Contract(pure = true)
+	public Property<Integer> getGitRenameLimit() {
+		return this.gitRenameLimit;
+	}
+
+	/**
+	 * {@return the property which makes Git history walks use the changed-path Bloom filters of a commit-graph
+	 * if set to {@code true}}
+	 * <p>
+	 * The Bloom filters let the walks skip the commits which cannot have touched the files they look for,
+	 * which is much faster on repositories with a deep history.
+	 * The commit-graph of the repository is used if it has Bloom filters ({@code git commit-graph write --changed-paths}),
+	 * otherwise one is written in the build directory of the root project.
+	 *
+	 * @since 4.1.0
+	 */
+	@Contract(pure = true)
+	public Property<Boolean> getGitCommitGraph() {
+		return this.gitCommitGraph;
+	}
+
+	/**
+	 * {@return the property of the backend used to read the Git history when resolving the years of files}
+	 * <p>
+	 * {@link LicenseYearBackend#NATIVE_GIT} can be much faster on very large repositories,
+	 * and falls back to {@link LicenseYearBackend#JGIT} if no {@code git} binary can be found.
+	 *
+	 * @since 4.1.0
+	 */
+	@Contract(pure = true)
+	public Property<LicenseYearBackend> getYearBackend() {
+		return this.yearBackend;
+	}
+
+	/**
+	 * {@return the property of the maximum number of files processed at once by each worker}
+	 * <p>
+	 * Processing a file mostly waits on I/O, so processing several files at once can speed up tasks
+	 * on high-latency file systems. Files are processed on virtual threads on Java 21 and later,
+	 * and on a pool of platform threads otherwise.
+	 * The default value of {@code 1} processes files one by one in each stage.
+	 * <p>
+	 * When applying license headers, files go through reading, formatting and writing stages,
+	 * and this is the maximum number of files in the reading stage and in the writing stage at once for each worker.
+	 * The formatting stage is limited by {@link #getTransformConcurrency()} instead.
+	 *
+	 * @since 4.1.0
+	 */
+	@Contract(pure = true)
+	public Property<Integer> getFileConcurrency() {
+		return this.fileConcurrency;
+	}
+
+	/**
+	 * {@return the property of the maximum number of files formatted at once by each worker}
+	 * <p>
+	 * When applying license headers, this is the maximum number of files in the formatting stage at once for each worker,
+	 * while {@link #getFileConcurrency()} limits the reading and writing stages.
+	 * Formatting a header is mostly computing, but it may also look up the Git history of its file.
+	 * The default value is the number of available cores, and a value of {@code 1} formats files one by one.
+	 *
+	 * @since 4.1.0
+	 */
+	@Contract(pure = true)
+	public Property<Integer> getTransformConcurrency() {
+		return this.transformConcurrency;
+	}
+
+	/**
+	 * {@return the property of the maximum number of files checked at once by the check tasks}
+	 * <p>
+	 * Checking a file is mostly waiting on reading it, so files are checked on several threads.
+	 * The default value is the number of available cores, and a value of {@code 1} checks files one by one.
+	 *
+	 * @since 4.1.0
+	 */
+	@Contract(pure = true)
+	public Property<Integer> getCheckConcurrency() {
+		return this.checkConcurrency;
+	}
+
+	/**
+	 * {@return the property which makes the files be processed in separate worker processes if set to {@code true}}
+	 * <p>
+	 * This keeps the memory used to read the Git history out of the Gradle daemon.
+	 * Worker processes are kept alive and reused by later builds.
+	 *
+	 * @since 4.1.0
+	 */
+	@Contract(pure = true)
+	public Property<Boolean> getWorkerProcessIsolation() {
+		return this.workerProcessIsolation;
+	}
+
+	/**
+	 * {@return the property of the maximum heap size of worker processes, like {@code 512m}}
+	 * <p>
+	 * Only used if {@linkplain #getWorkerProcessIsolation() process isolation} is enabled.
+	 *
+	 * @since 4.1.0
+	 */
+	@Contract(pure = true)
+	public Property<String> getWorkerMaxHeapSize() {
+		return this.workerMaxHeapSize;
+	}
+
+	/**
+	 * {@return the property which makes worker processes start from an AppCDS archive of their classes
+	 * if set to {@code true}}
+	 * <p>
+	 * The archive is created by the first worker process and kept in the build directory of the root project.
+	 * Only used if {@linkplain #getWorkerProcessIsolation() process isolation} is enabled.
+	 *
+	 * @since 4.1.0
+	 */
+	@Contract(pure = true)
+	public Property<Boolean> getWorkerClassDataSharing() {
+		return this.workerClassDataSharing;
+	}
+
 	/**
 	 * {@return the delegated filterable pattern}
 	 */
@@ -9,7 +9,10 @@
 package dev.yumi.gradle.licenser.api.comment;
 
 import dev.yumi.gradle.licenser.util.Utils;
+import org.jspecify.annotations.Nullable;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -18,7 +21,7 @@ import java.util.List;
  * Represents the license comment reader and writer for C-style files.
  *
  * @author LambdAurora
- * @version 2.0.0
+ * @version 4.1.0
  * @since 1.0.0
  */
 public final class CStyleHeaderComment implements HeaderComment {
@@ -26,6 +29,7 @@ public final class CStyleHeaderComment implements HeaderComment {
 	 * The implementation instance of this header comment type.
 	 */
 	public static final CStyleHeaderComment INSTANCE = new CStyleHeaderComment();
+	private static final byte[] COMMENT_END = {'*', '/'};
 
 	private CStyleHeaderComment() {}
 
@@ -77,17 +81,92 @@ public final class CStyleHeaderComment implements HeaderComment {
 		List<String> result = null;
 
 		if (found != null) {
-			String[] lines = found.split("\r?\n( ?\\* ?)?");
-			lines[0] = lines[0].stripLeading();
+			result = parseLines(found);
+		}
 
-			result = new ArrayList<>(List.of(lines));
+		return new Result(start, end, result, separator);
+	}
 
-			if (result.get(0).isBlank()) {
-				result.remove(0);
-			}
+	@Override
+	public @Nullable Result readHeaderComment(ByteBuffer start, boolean complete) throws CharacterCodingException {
+		String separator = Utils.extractLineSeparator(start, complete);
+
+		if (separator == null) {
+			return null;
 		}
 
-		return new Result(start, end, result, separator);
+		int limit = start.limit();
+		int i = Utils.skipAsciiWhitespace(start, 0);
+
+		if (i < limit && start.get(i) < 0) {
+			// Non-ASCII whitespace may come before the header comment, which is only known once decoded.
+			return HeaderComment.super.readHeaderComment(start, complete);
+		} else if (i + 3 > limit) {
+			// Whether a header comment starts there may depend on the next 2 characters.
+			return complete ? HeaderComment.super.readHeaderComment(start, true) : null;
+		}
+
+		if (start.get(i) != '/' || start.get(i + 1) != '*' || start.get(i + 2) == '*') {
+			return new Result(0, i, null, separator);
+		}
+
+		int commentEnd = Utils.indexOf(start, COMMENT_END, i + 3);
+
+		if (commentEnd == -1) {
+			// Unterminated header comments are rare enough to be read from the decoded source.
+			return complete ? HeaderComment.super.readHeaderComment(start, true) : null;
+		} else if (start.get(commentEnd - 1) < 0) {
+			// The character before the end of the comment is left out, which is simpler once decoded.
+			return HeaderComment.super.readHeaderComment(start, complete);
+		}
+
+		// Only the header comment itself is decoded.
+		String found = Utils.decodeUtf8(start, i + 2, commentEnd - 1, true);
+		return new Result(i, commentEnd + 2, parseLines(found), separator);
+	}
+
+	private static List<String> parseLines(String found) {
+		String[] lines = found.split("\r?\n( ?\\* ?)?");
+		lines[0] = lines[0].stripLeading();
+
+		var result = new ArrayList<>(List.of(lines));
+
+		if (result.get(0).isBlank()) {
+			result.remove(0);
+		}
+
+		return result;
+	}
+
+	@Override
+	public @Nullable Result readHeaderCommentFromStart(String start, boolean complete) {
+		if (complete) {
+			return this.readHeaderComment(start);
+		}
+
+		// The line separator is taken from the first line.
+		if (start.indexOf('\n') == -1) {
+			return null;
+		}
+
+		int i = 0;
+
+		while (i < start.length() && Character.isWhitespace(start.charAt(i))) {
+			i++;
+		}
+
+		// Whether a header comment starts there may depend on the next 2 characters.
+		if (i + 3 > start.length()) {
+			return null;
+		}
+
+		if (start.charAt(i) == '/' && start.charAt(i + 1) == '*' && start.charAt(i + 2) != '*'
+				&& start.indexOf("*/", i + 3) == -1) {
+			// The end of the header comment is further in the source.
+			return null;
+		}
+
+		return this.readHeaderComment(start);
 	}
 
 	@Override
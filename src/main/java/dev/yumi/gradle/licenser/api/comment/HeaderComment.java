@@ -8,17 +8,20 @@
 
 package dev.yumi.gradle.licenser.api.comment;
 
+import dev.yumi.gradle.licenser.util.Utils;
 import org.jetbrains.annotations.Contract;
 import org.jspecify.annotations.Nullable;
 
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
 import java.util.List;
 
 /**
  * Represents the header comment reader and writer for a language.
  *
  * @author LambdAurora
- * @version 4.0.0
+ * @version 4.1.0
  * @since 1.0.0
  */
 public interface HeaderComment extends Serializable {
@@ -31,6 +34,50 @@ public interface HeaderComment extends Serializable {
 	@Contract(pure = true)
 	Result readHeaderComment(String source);
 
+	/**
+	 * Attempts to find the header comment and extract it from the start of a source, without reading the rest of it.
+	 * <p>
+	 * The result must be the same as {@link #readHeaderComment(String)} on the whole source.
+	 * The default implementation cannot tell if the start of the source is enough, and only reads whole sources.
+	 *
+	 * @param start the start of the source
+	 * @param complete {@code true} if the start is the whole source, or {@code false} otherwise
+	 * @return the read result, or {@code null} if more of the source is needed, which is never the case if it is complete
+	 * @since 4.1.0
+	 */
+	@Contract(pure = true)
+	default @Nullable Result readHeaderCommentFromStart(String start, boolean complete) {
+		return complete ? this.readHeaderComment(start) : null;
+	}
+
+	/**
+	 * Attempts to find the header comment and extract it from the start of a UTF-8 encoded source,
+	 * without decoding more than the header comment.
+	 * <p>
+	 * The start and end of the result are byte offsets in the source, and the other fields must be the same
+	 * as {@link #readHeaderComment(String)} on the whole decoded source.
+	 * The default implementation decodes the start of the source and reads it with {@link #readHeaderCommentFromStart(String, boolean)}.
+	 *
+	 * @param start the start of the source, whose content is between {@code 0} and its limit, and which must not be modified
+	 * @param complete {@code true} if the start is the whole source, or {@code false} otherwise
+	 * @return the read result, or {@code null} if more of the source is needed, which is never the case if it is complete
+	 * @throws CharacterCodingException if the start of the source isn't valid UTF-8
+	 * @since 4.1.0
+	 */
+	default @Nullable Result readHeaderComment(ByteBuffer start, boolean complete) throws CharacterCodingException {
+		String source = Utils.decodeUtf8(start, 0, start.limit(), complete);
+		var result = this.readHeaderCommentFromStart(source, complete);
+
+		if (result == null) {
+			return null;
+		}
+
+		return new Result(
+				Utils.getUtf8Length(source, result.start()), Utils.getUtf8Length(source, result.end()),
+				result.existing(), result.separator()
+		);
+	}
+
 	/**
 	 * Extracts the line separator used for the given source string.
 	 *
@@ -8,14 +8,20 @@
 
 package dev.yumi.gradle.licenser.api.comment
 
+import dev.yumi.gradle.licenser.util.Utils
+import java.nio.ByteBuffer
+import java.nio.charset.CharacterCodingException
+
 private const val COMMENT_START = "<!--"
 private const val COMMENT_END = "-->"
+private val COMMENT_START_BYTES = COMMENT_START.toByteArray(Charsets.UTF_8)
+private val COMMENT_END_BYTES = COMMENT_END.toByteArray(Charsets.UTF_8)
 
 /**
  * [HeaderComment] implementation for XML-style comments.
  *
  * @author gdude2002
- * @version 4.0.0
+ * @version 4.1.0
  * @since 1.2.0
  */
 public class XmlStyleHeaderComment private constructor() : HeaderComment {
@@ -43,15 +49,59 @@ public class XmlStyleHeaderComment private constructor() : HeaderComment {
 			return HeaderComment.Result(0, 0, null, separator)
 		}
 
-		// Grab the licence header comment, and split it into lines.
-		val result: MutableList<String> = source.substring(start, end).split(separator).toMutableList()
+		return HeaderComment.Result(start, end, parseLines(source.substring(start, end), separator), separator)
+	}
+
+	@Throws(CharacterCodingException::class)
+	override fun readHeaderComment(start: ByteBuffer, complete: Boolean): HeaderComment.Result? {
+		val separator = Utils.extractLineSeparator(start, complete) ?: return null
+		val limit = start.limit()
+
+		// Find the start of the comment block.
+		val firstBlockStart = Utils.skipAsciiWhitespace(start, 0)
+
+		if (firstBlockStart == limit || start.get(firstBlockStart) < 0) {
+			// Non-ASCII whitespace may come first, which is only known once decoded.
+			return super.readHeaderComment(start, complete)
+		}
+
+		if (!complete && limit - firstBlockStart < COMMENT_START_BYTES.size) {
+			return null
+		}
+
+		val opens = COMMENT_START_BYTES.indices.all { index ->
+			firstBlockStart + index < limit && start.get(firstBlockStart + index) == COMMENT_START_BYTES[index]
+		}
+
+		if (!opens) {
+			// If the comment doesn't open on the first character of the block, something fishy is going on.
+			return HeaderComment.Result(0, 0, null, separator)
+		}
+
+		val commentEnd = Utils.indexOf(start, COMMENT_END_BYTES, firstBlockStart)
+
+		if (commentEnd < 0) {
+			// Unclosed comments are read from the decoded source.
+			return if (complete) super.readHeaderComment(start, true) else null
+		}
+
+		// Only the licence header comment itself is decoded.
+		val end = commentEnd + COMMENT_END_BYTES.size
+		val comment = Utils.decodeUtf8(start, firstBlockStart, end, true)
+
+		return HeaderComment.Result(firstBlockStart, end, parseLines(comment, separator), separator)
+	}
+
+	private fun parseLines(comment: String, separator: String): List<String> {
+		// Split the licence header comment into lines.
+		val result: MutableList<String> = comment.split(separator).toMutableList()
 
 		// Remove the first and last lines, as those are simply comment start/end characters, and not the licence text.
 		result.removeFirst()
 		result.removeLast()
 
-		// Remove any indents from the licence header text, and return the result.
-		return HeaderComment.Result(start, end, result.map { it.removePrefix("\t") }, separator)
+		// Remove any indents from the licence header text.
+		return result.map { it.removePrefix("\t") }
 	}
 
 	override fun writeHeaderComment(header: List<String>, separator: String): String =
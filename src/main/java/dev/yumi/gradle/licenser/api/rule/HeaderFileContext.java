@@ -14,7 +14,7 @@ import org.jetbrains.annotations.Contract;
  * Represents the context of a file for which the license header is to be updated.
  *
  * @author LambdAurora
- * @version 4.0.0
+ * @version 4.1.0
  * @since 1.0.0
  */
 public interface HeaderFileContext {
@@ -33,4 +33,18 @@ public interface HeaderFileContext {
 	 * {@return the last modified year}
 	 */
 	int lastModifiedYear();
+
+	/**
+	 * Gets the last modified year, knowing that the file was already modified in the given year.
+	 * <p>
+	 * Unlike {@link #lastModifiedYear()}, this only needs to know whether the file has been modified since
+	 * the start of the year following the known year, which can be resolved without looking at the whole history.
+	 *
+	 * @param knownYear the year in which the file is known to have been modified
+	 * @return the last modified year if it is after the known year, or the known year otherwise
+	 * @since 4.1.0
+	 */
+	default int lastModifiedYearSince(int knownYear) {
+		return Math.max(knownYear, this.lastModifiedYear());
+	}
 }
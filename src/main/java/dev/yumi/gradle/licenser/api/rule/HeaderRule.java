@@ -23,7 +23,7 @@ import java.util.*;
  * Represents a header rule which describes how a header should look like.
  *
  * @author LambdAurora
- * @version 2.0.0
+ * @version 4.1.0
  * @since 1.0.0
  */
 public class HeaderRule {
@@ -163,6 +163,38 @@ public class HeaderRule {
 		return null;
 	}
 
+	/**
+	 * Checks whether applying this header rule to the provided parsed data needs the years of the file context.
+	 * <p>
+	 * If the variables of the header don't need them, for example if the header already contains the current year,
+	 * the lookup of the years of the file can be skipped.
+	 *
+	 * @param data the data parsed by attempting to read the header comment
+	 * @return {@code true} if the creation or last modified year of the file context is needed, or {@code false} otherwise
+	 * @see VariableType#requiresYearLookup(Object)
+	 * @since 4.1.0
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	public boolean requiresYearLookup(ParsedData data) {
+		for (int i = 0; i < this.lines.size(); i++) {
+			var line = this.lines.get(i);
+
+			if (!line.optional() || data.presentOptionalLines.contains(i)) {
+				for (var token : line.tokens()) {
+					if (token instanceof VarToken varToken) {
+						var type = (VariableType) this.variables.get(varToken.variable());
+
+						if (type.requiresYearLookup(data.variables.get(varToken.variable()))) {
+							return true;
+						}
+					}
+				}
+			}
+		}
+
+		return false;
+	}
+
 	/**
 	 * Applies this header rule to the provided parsed data to create a valid up-to-date header comment.
 	 *
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.api.rule;
+
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Represents the backend used to read the Git history when resolving the years of files.
+ *
+ * @author LambdAurora
+ * @version 4.1.0
+ * @since 4.1.0
+ */
+public enum LicenseYearBackend {
+	/**
+	 * The history is read in-process using JGit.
+	 */
+	JGIT,
+	/**
+	 * The history is read by streaming the output of a single {@code git log} run of the local {@code git} binary,
+	 * which is faster on very large repositories.
+	 * <p>
+	 * If no {@code git} binary can be found, {@link #JGIT} is used instead.
+	 */
+	NATIVE_GIT;
+
+	private static final List<LicenseYearBackend> VALUES = List.of(values());
+
+	/**
+	 * {@return the license year backend by its name}
+	 *
+	 * @param name the name of the backend
+	 */
+	@Contract(pure = true)
+	public static @Nullable LicenseYearBackend byName(String name) {
+		for (var backend : VALUES) {
+			if (backend.name().equals(name))
+				return backend;
+		}
+
+		return null;
+	}
+}
@@ -9,23 +9,19 @@
 package dev.yumi.gradle.licenser.api.rule;
 
 import dev.yumi.gradle.licenser.util.GitUtils;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jspecify.annotations.Nullable;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.attribute.BasicFileAttributes;
-import java.time.Instant;
-import java.time.LocalDate;
-import java.time.ZoneId;
 import java.util.List;
 
 /**
  * Represents the mode in which the year should be fetched.
  *
  * @author LambdAurora
- * @version 2.0.0
+ * @version 4.1.0
  * @since 1.0.0
  */
 public enum LicenseYearSelectionMode {
@@ -54,21 +50,18 @@ public enum LicenseYearSelectionMode {
 	 * @param projectCreationYear the creation year of the project
 	 * @param path the path to the file
 	 * @return the creation year
-	 * @throws IOException if the file attributes cannot be read
+	 * @throws IOException if the creation year cannot be read
 	 */
 	public int getCreationYear(Path rootPath, int projectCreationYear, Path path) throws IOException {
-		Path commitPath = this.commitPathReference.getPathForCommitFetching(rootPath, path);
+		Path commitPath = this.getPathForCommitFetching(rootPath, path);
 
 		if (commitPath != path) {
 			return projectCreationYear;
 		} else {
-			Instant instant = Files.readAttributes(commitPath, BasicFileAttributes.class).creationTime().toInstant();
-			LocalDate localDate = LocalDate.ofInstant(instant, ZoneId.systemDefault());
-			return localDate.getYear();
+			return GitUtils.getCreationYear(rootPath, commitPath);
 		}
 	}
 
-
 	/**
 	 * Gets the year in which the file got last modified.
 	 * <p>
@@ -79,10 +72,23 @@ public enum LicenseYearSelectionMode {
 	 * @return the last modification year
 	 */
 	public int getModificationYear(Path rootPath, Path path) {
-		Path commitPath = this.commitPathReference.getPathForCommitFetching(rootPath, path);
+		Path commitPath = this.getPathForCommitFetching(rootPath, path);
 		return GitUtils.getModificationYear(rootPath, commitPath);
 	}
 
+	/**
+	 * Gets the path whose history gives the years of the given file.
+	 *
+	 * @param rootPath the root directory of the project the path is in
+	 * @param path the path to the file
+	 * @return the root directory in the case of {@link #PROJECT}, or the path to the file otherwise
+	 * @since 4.1.0
+	 */
+	@ApiStatus.Internal
+	public Path getPathForCommitFetching(Path rootPath, Path path) {
+		return this.commitPathReference.getPathForCommitFetching(rootPath, path);
+	}
+
 	/**
 	 * {@return the license year selection mode by its name}
 	 *
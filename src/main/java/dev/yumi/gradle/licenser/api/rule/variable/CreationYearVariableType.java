@@ -21,7 +21,7 @@ import java.util.Optional;
  * depending on the {@linkplain dev.yumi.gradle.licenser.api.rule.LicenseYearSelectionMode the year selection mode}.
  *
  * @author LambdAurora
- * @version 1.0.0
+ * @version 4.1.0
  * @since 1.0.0
  */
 public class CreationYearVariableType implements VariableType<Integer> {
@@ -54,4 +54,9 @@ public class CreationYearVariableType implements VariableType<Integer> {
 			return context.creationYear();
 		}
 	}
+
+	@Override
+	public boolean requiresYearLookup(@Nullable Integer old) {
+		return old == null;
+	}
 }
@@ -19,7 +19,7 @@ import java.util.Optional;
  * This variable type has only one valid value for a given file which is its name.
  *
  * @author LambdAurora
- * @version 1.0.0
+ * @version 4.1.0
  * @since 1.0.0
  */
 public class FileNameVariableType implements VariableType<String> {
@@ -56,4 +56,9 @@ public class FileNameVariableType implements VariableType<String> {
 	public String getUpToDate(HeaderFileContext context, @Nullable String old) {
 		return context.fileName();
 	}
+
+	@Override
+	public boolean requiresYearLookup(@Nullable String old) {
+		return false;
+	}
 }
@@ -20,7 +20,7 @@ import java.util.Optional;
  *
  * @param <D> the data type used by the variable type
  * @author LambdAurora
- * @version 1.0.0
+ * @version 4.1.0
  * @since 1.0.0
  */
 public interface VariableType<D> {
@@ -78,6 +78,23 @@ public interface VariableType<D> {
 	 */
 	D getUpToDate(HeaderFileContext context, @Nullable D old);
 
+	/**
+	 * Checks whether {@link #getUpToDate(HeaderFileContext, Object)} needs the years of the file context
+	 * to update the given old value.
+	 * <p>
+	 * Resolving the years of a file may query the Git history,
+	 * which can be skipped entirely if no variable of a header needs them.
+	 *
+	 * @param old the previous known value for this variable type, or {@code null} if unknown
+	 * @return {@code true} if the creation or last modified year of the file context is needed,
+	 * or {@code false} otherwise
+	 * @since 4.1.0
+	 */
+	@Contract(pure = true)
+	default boolean requiresYearLookup(@Nullable D old) {
+		return true;
+	}
+
 	/**
 	 * Represents the result of a parsed variable.
 	 *
@@ -12,6 +12,7 @@ import dev.yumi.gradle.licenser.api.rule.HeaderFileContext;
 import dev.yumi.gradle.licenser.util.Utils;
 import org.jspecify.annotations.Nullable;
 
+import java.util.Calendar;
 import java.util.Optional;
 
 /**
@@ -21,7 +22,7 @@ import java.util.Optional;
  * depending on the {@linkplain dev.yumi.gradle.licenser.api.rule.LicenseYearSelectionMode the year selection mode}.
  *
  * @author LambdAurora
- * @version 1.0.0
+ * @version 4.1.0
  * @since 1.0.0
  */
 public class YearLenientRangeVariableType implements VariableType<int[]> {
@@ -69,22 +70,25 @@ public class YearLenientRangeVariableType implements VariableType<int[]> {
 
 	@Override
 	public int[] getUpToDate(HeaderFileContext context, int @Nullable [] old) {
-		int modifiedYear = context.lastModifiedYear();
-
-		if (old != null) {
+		if (!this.requiresYearLookup(old)) {
+			return old;
+		} else if (old != null) {
 			var years = old;
 
 			if (years.length > 1) {
-				if (years[1] < modifiedYear) {
-					years[1] = modifiedYear;
+				years[1] = context.lastModifiedYearSince(years[1]);
+			} else {
+				int modifiedYear = context.lastModifiedYearSince(years[0]);
+
+				if (years[0] < modifiedYear) {
+					years = new int[]{years[0], modifiedYear};
 				}
-			} else if (years[0] < modifiedYear) {
-				years = new int[]{years[0], modifiedYear};
 			}
 
 			return years;
 		} else {
 			int creationYear = context.creationYear();
+			int modifiedYear = context.lastModifiedYear();
 
 			if (creationYear != modifiedYear) {
 				return new int[]{creationYear, modifiedYear};
@@ -93,4 +97,10 @@ public class YearLenientRangeVariableType implements VariableType<int[]> {
 			}
 		}
 	}
+
+	@Override
+	public boolean requiresYearLookup(int @Nullable [] old) {
+		// A range already ending with the current year cannot be extended.
+		return old == null || old[old.length - 1] < Calendar.getInstance().get(Calendar.YEAR);
+	}
 }
@@ -13,6 +13,7 @@ import dev.yumi.gradle.licenser.util.Utils;
 import org.jspecify.annotations.Nullable;
 
 import java.util.Arrays;
+import java.util.Calendar;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -24,7 +25,7 @@ import java.util.stream.IntStream;
  * depending on the {@linkplain dev.yumi.gradle.licenser.api.rule.LicenseYearSelectionMode the year selection mode}.
  *
  * @author LambdAurora
- * @version 1.0.0
+ * @version 4.1.0
  * @since 1.0.0
  */
 public class YearListVariableType implements VariableType<int[]> {
@@ -73,11 +74,12 @@ public class YearListVariableType implements VariableType<int[]> {
 
 	@Override
 	public int [] getUpToDate(HeaderFileContext context, int @Nullable [] old) {
-		int lastModified = context.lastModifiedYear();
-
-		if (old != null) {
+		if (!this.requiresYearLookup(old)) {
+			return old;
+		} else if (old != null) {
 			int[] years = old;
 			int lastKnown = years[years.length - 1];
+			int lastModified = context.lastModifiedYearSince(lastKnown);
 
 			if (lastKnown < lastModified) {
 				IntStream yearsStream = IntStream.of(years);
@@ -90,7 +92,13 @@ public class YearListVariableType implements VariableType<int[]> {
 
 			return years;
 		} else {
-			return IntStream.rangeClosed(context.creationYear(), lastModified).toArray();
+			return IntStream.rangeClosed(context.creationYear(), context.lastModifiedYear()).toArray();
 		}
 	}
+
+	@Override
+	public boolean requiresYearLookup(int @Nullable [] old) {
+		// A list already ending with the current year cannot be extended.
+		return old == null || old[old.length - 1] < Calendar.getInstance().get(Calendar.YEAR);
+	}
 }
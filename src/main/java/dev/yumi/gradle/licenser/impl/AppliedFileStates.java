@@ -0,0 +1,245 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.impl;
+
+import org.jetbrains.annotations.ApiStatus;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Represents the state of the files after license headers got last applied to them.
+ * <p>
+ * The content hash of each file is recorded along with a fingerprint of everything the headers depend on,
+ * like the rules and the current year.
+ * A file whose content still matches its recorded hash already has an up-to-date header, and doesn't need to be processed.
+ * Every file is processed again if the fingerprint changes.
+ * <p>
+ * The size and last modified time of each file are recorded too, so unchanged files don't need to be hashed.
+ * A file modified at or after the time the states got saved may still change within the same tick of a coarse
+ * file system clock without changing its last modified time, so its last modified time isn't trusted and it is hashed instead.
+ *
+ * @author LambdAurora
+ * @version 4.1.0
+ * @since 4.1.0
+ */
+@ApiStatus.Internal
+public final class AppliedFileStates {
+	private static final int FORMAT_VERSION = 3;
+	/**
+	 * The last modified time recorded for files which have to be hashed to be known as unchanged.
+	 */
+	private static final long RACY_LAST_MODIFIED = Long.MIN_VALUE;
+
+	private final String fingerprint;
+	private final Map<String, FileState> states = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates empty file states.
+	 *
+	 * @param fingerprint the fingerprint of everything the headers depend on
+	 */
+	public AppliedFileStates(String fingerprint) {
+		this.fingerprint = fingerprint;
+	}
+
+	/**
+	 * Loads the file states persisted in the given file.
+	 * <p>
+	 * A missing or unreadable file, or a different fingerprint, gives empty file states, so every file is processed.
+	 *
+	 * @param file the file to load the states from
+	 * @param fingerprint the fingerprint of everything the headers depend on
+	 * @return the file states
+	 */
+	public static AppliedFileStates load(Path file, String fingerprint) {
+		var states = new AppliedFileStates(fingerprint);
+
+		if (!Files.isRegularFile(file)) {
+			return states;
+		}
+
+		try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != FORMAT_VERSION || !in.readUTF().equals(fingerprint)) {
+				return states;
+			}
+
+			int count = in.readInt();
+
+			for (int i = 0; i < count; i++) {
+				String path = in.readUTF();
+				long size = in.readLong();
+				long lastModified = in.readLong();
+				var hash = new byte[in.readUnsignedByte()];
+				in.readFully(hash);
+				long cost = in.readLong();
+
+				states.states.put(path, new FileState(size, lastModified, hash, cost));
+			}
+		} catch (IOException e) {
+			// Corrupted state files are ignored, every file is processed again.
+			states.states.clear();
+		}
+
+		return states;
+	}
+
+	/**
+	 * Checks whether the given file is unchanged since headers got last applied to it.
+	 *
+	 * @param file the file
+	 * @return {@code true} if the file is unchanged, or {@code false} otherwise
+	 */
+	public boolean isUpToDate(Path file) {
+		String key = file.toString();
+		FileState state = this.states.get(key);
+
+		if (state == null) {
+			return false;
+		}
+
+		try {
+			var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+			long size = attributes.size();
+			long lastModified = attributes.lastModifiedTime().toMillis();
+
+			if (size != state.size()) {
+				return false;
+			} else if (lastModified == state.lastModified()) {
+				return true;
+			}
+
+			// Only touched, like by a checkout.
+			byte[] hash = hash(file);
+
+			if (Arrays.equals(hash, state.hash())) {
+				this.states.put(key, new FileState(size, lastModified, hash, state.cost()));
+				return true;
+			}
+		} catch (IOException e) {
+			// The file will be processed, which will report the error if it persists.
+		}
+
+		return false;
+	}
+
+	/**
+	 * Records the current state of the given file, after headers got applied to it.
+	 *
+	 * @param file the file
+	 * @param cost the time it took to process the file, in nanoseconds, or a negative value if unknown
+	 * @throws IOException if the file could not be read
+	 */
+	public void record(Path file, long cost) throws IOException {
+		var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+		this.states.put(file.toString(), new FileState(
+				attributes.size(), attributes.lastModifiedTime().toMillis(), hash(file), cost
+		));
+	}
+
+	/**
+	 * Gets the time it took to process the given file when headers got last applied to it.
+	 * <p>
+	 * The cost stays known if the file changed since then, as long as it got processed with the same fingerprint.
+	 *
+	 * @param file the file
+	 * @return the time it took to process the file, in nanoseconds, or a negative value if unknown
+	 */
+	public long getCost(Path file) {
+		FileState state = this.states.get(file.toString());
+		return state != null ? state.cost() : -1;
+	}
+
+	/**
+	 * Copies the state of the given file into the given file states, if known.
+	 *
+	 * @param file the file
+	 * @param target the file states to copy the state into
+	 */
+	public void copyTo(Path file, AppliedFileStates target) {
+		String key = file.toString();
+		FileState state = this.states.get(key);
+
+		if (state != null) {
+			target.states.put(key, state);
+		}
+	}
+
+	/**
+	 * Persists these file states into the given file.
+	 *
+	 * @param file the file to save the states to
+	 * @throws IOException if the file could not be written
+	 */
+	public void save(Path file) throws IOException {
+		Files.createDirectories(file.getParent());
+		var tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+
+		try {
+			// The clock of the file system of the states, with the same granularity as the last modified times of the files.
+			long savedAt = Files.getLastModifiedTime(tempFile).toMillis();
+
+			try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+				out.writeInt(FORMAT_VERSION);
+				out.writeUTF(this.fingerprint);
+				out.writeInt(this.states.size());
+
+				for (var entry : this.states.entrySet()) {
+					out.writeUTF(entry.getKey());
+					out.writeLong(entry.getValue().size());
+					long lastModified = entry.getValue().lastModified();
+					out.writeLong(lastModified < savedAt ? lastModified : RACY_LAST_MODIFIED);
+					out.writeByte(entry.getValue().hash().length);
+					out.write(entry.getValue().hash());
+					out.writeLong(entry.getValue().cost());
+				}
+			}
+
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	private static byte[] hash(Path file) throws IOException {
+		MessageDigest digest;
+
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 should be supported by every Java platform.", e);
+		}
+
+		try (InputStream in = Files.newInputStream(file)) {
+			var buffer = new byte[8192];
+			int read;
+
+			while ((read = in.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+		}
+
+		return digest.digest();
+	}
+
+	private record FileState(long size, long lastModified, byte[] hash, long cost) {}
+}
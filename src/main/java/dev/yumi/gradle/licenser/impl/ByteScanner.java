@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.impl;
+
+import org.jetbrains.annotations.ApiStatus;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Represents a scanner which finds bytes in UTF-8 encoded sources, like comment delimiters and line terminators.
+ * <p>
+ * The default scanner compares bytes one by one.
+ * A scanner built on the incubating Vector API, which compares many bytes at once, can be enabled instead
+ * with the {@value #VECTOR_PROPERTY} system property. It requires the {@value #VECTOR_MODULE} module,
+ * for example with {@code org.gradle.jvmargs=--add-modules=jdk.incubator.vector}, and falls back to
+ * the default scanner otherwise.
+ *
+ * @author LambdAurora
+ * @version 4.1.0
+ * @since 4.1.0
+ */
+@ApiStatus.Internal
+public abstract class ByteScanner {
+	/**
+	 * The system property which enables the scanner built on the Vector API.
+	 */
+	public static final String VECTOR_PROPERTY = "yumi.gradle.licenser.vector";
+	/**
+	 * The module of the Vector API.
+	 */
+	public static final String VECTOR_MODULE = "jdk.incubator.vector";
+	private static final ByteScanner INSTANCE = create(Boolean.getBoolean(VECTOR_PROPERTY));
+
+	ByteScanner() {
+	}
+
+	/**
+	 * {@return the scanner to use, as configured by the {@value #VECTOR_PROPERTY} system property}
+	 */
+	public static ByteScanner get() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Creates a scanner.
+	 *
+	 * @param vectorized {@code true} to build the scanner on the Vector API if available, or {@code false} otherwise
+	 * @return the scanner
+	 */
+	public static ByteScanner create(boolean vectorized) {
+		if (vectorized && ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+			try {
+				// Loaded reflectively, as its class cannot be linked without the Vector API.
+				return (ByteScanner) Class.forName(ByteScanner.class.getPackageName() + ".VectorByteScanner")
+						.getDeclaredConstructor()
+						.newInstance();
+			} catch (ReflectiveOperationException | LinkageError e) {
+				// The default scanner is used instead.
+			}
+		}
+
+		return Scalar.INSTANCE;
+	}
+
+	/**
+	 * {@return {@code true} if this scanner is built on the Vector API, or {@code false} otherwise}
+	 */
+	public final boolean isVectorized() {
+		return this != Scalar.INSTANCE;
+	}
+
+	/**
+	 * Finds the first index of the given byte in a UTF-8 encoded source.
+	 *
+	 * @param source the source, whose content is between {@code 0} and its limit
+	 * @param value the byte to find
+	 * @param from the index to start searching from
+	 * @return the index of the byte if found, or {@code -1} otherwise
+	 */
+	public abstract int indexOf(ByteBuffer source, byte value, int from);
+
+	static int indexOf(ByteBuffer source, byte value, int from, int to) {
+		for (int i = from; i < to; i++) {
+			if (source.get(i) == value) {
+				return i;
+			}
+		}
+
+		return -1;
+	}
+
+	private static final class Scalar extends ByteScanner {
+		static final Scalar INSTANCE = new Scalar();
+
+		@Override
+		public int indexOf(ByteBuffer source, byte value, int from) {
+			return indexOf(source, value, Math.max(0, from), source.limit());
+		}
+	}
+}
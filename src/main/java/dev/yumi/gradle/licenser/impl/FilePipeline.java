@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.impl;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Represents a pipeline which processes files in three stages: reading them, transforming them, and writing them.
+ * <p>
+ * Each stage runs on its own threads, so a slow write doesn't hold back the transformation of the next files.
+ * The reading and writing stages share a limit of files accessed on disk at once,
+ * while the transforming stage has its own limit.
+ * Like the other stages, the transforming stage may wait on I/O, so the threads of every stage
+ * are virtual threads on Java 21 and later.
+ * <p>
+ * The stages are connected by bounded queues: a stage which gets ahead waits for the next one to catch up.
+ * At most {@code 2 * queueCapacity + 2 * ioConcurrency + transformConcurrency} files are in flight at once,
+ * which bounds the memory used regardless of the number of files.
+ *
+ * @param <I> the type of the files
+ * @param <R> the type of the read files
+ * @param <W> the type of the transformed files, to write
+ * @param <O> the type of the results
+ * @author LambdAurora
+ * @version 4.1.0
+ * @since 4.1.0
+ */
+@ApiStatus.Internal
+public final class FilePipeline<I, R, W, O> {
+	private final Function<I, R> read;
+	private final Function<R, W> transform;
+	private final Function<W, O> write;
+	private final Limits limits;
+
+	/**
+	 * Creates a file pipeline.
+	 *
+	 * @param read the reading stage, which must be thread-safe
+	 * @param transform the transforming stage, which must be thread-safe
+	 * @param write the writing stage, which must be thread-safe
+	 * @param limits the limits of the stages
+	 */
+	public FilePipeline(Function<I, R> read, Function<R, W> transform, Function<W, O> write, Limits limits) {
+		this.read = read;
+		this.transform = transform;
+		this.write = write;
+		this.limits = limits;
+	}
+
+	/**
+	 * Processes the given files.
+	 * <p>
+	 * If a stage throws an exception, the files not processed yet are skipped and the exception is rethrown.
+	 *
+	 * @param files the files to process
+	 * @return the results, in the order of the given files
+	 */
+	@SuppressWarnings("unchecked")
+	public List<O> process(List<I> files) {
+		if (files.size() <= 1) {
+			// Not worth starting threads for.
+			var results = new ArrayList<O>(files.size());
+
+			for (var file : files) {
+				results.add(this.write.apply(this.transform.apply(this.read.apply(file))));
+			}
+
+			return results;
+		}
+
+		var results = new Object[files.size()];
+		var readQueue = new ArrayBlockingQueue<Item<R>>(this.limits.queueCapacity());
+		var writeQueue = new ArrayBlockingQueue<Item<W>>(this.limits.queueCapacity());
+		var disk = new Semaphore(this.limits.ioConcurrency());
+		var nextFile = new AtomicInteger();
+		var readers = new AtomicInteger(this.limits.ioConcurrency());
+		var transformers = new AtomicInteger(this.limits.transformConcurrency());
+
+		int threadCount = 2 * this.limits.ioConcurrency() + this.limits.transformConcurrency();
+		// Every stage loops until its queue ends, so each needs its own thread.
+		var executor = FileProcessor.createExecutor(threadCount, "yumi-licenser-pipeline-");
+		var completion = new ExecutorCompletionService<Void>(executor);
+
+		try {
+			for (int i = 0; i < this.limits.ioConcurrency(); i++) {
+				completion.submit(() -> {
+					int index;
+
+					while ((index = nextFile.getAndIncrement()) < files.size()) {
+						readQueue.put(new Item<>(index, onDisk(disk, this.read, files.get(index))));
+					}
+
+					// The last reader lets every transformer know that no file is left.
+					if (readers.decrementAndGet() == 0) {
+						endQueue(readQueue, this.limits.transformConcurrency());
+					}
+
+					return null;
+				});
+			}
+
+			for (int i = 0; i < this.limits.transformConcurrency(); i++) {
+				completion.submit(() -> {
+					Item<R> item;
+
+					while ((item = readQueue.take()).index() != Item.END) {
+						writeQueue.put(new Item<>(item.index(), this.transform.apply(item.value())));
+					}
+
+					if (transformers.decrementAndGet() == 0) {
+						endQueue(writeQueue, this.limits.ioConcurrency());
+					}
+
+					return null;
+				});
+			}
+
+			for (int i = 0; i < this.limits.ioConcurrency(); i++) {
+				completion.submit(() -> {
+					Item<W> item;
+
+					while ((item = writeQueue.take()).index() != Item.END) {
+						results[item.index()] = onDisk(disk, this.write, item.value());
+					}
+
+					return null;
+				});
+			}
+
+			for (int i = 0; i < threadCount; i++) {
+				// Fails as soon as any stage fails, as the other stages may be waiting on it.
+				completion.take().get();
+			}
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException exception) {
+				throw exception;
+			} else if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+
+			throw new IllegalStateException("Failed to process a file.", e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while processing files.", e);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		return (List<O>) Arrays.asList(results);
+	}
+
+	private static <T, U> U onDisk(Semaphore disk, Function<T, U> stage, T value) throws InterruptedException {
+		disk.acquire();
+
+		try {
+			return stage.apply(value);
+		} finally {
+			disk.release();
+		}
+	}
+
+	private static <T> void endQueue(BlockingQueue<Item<T>> queue, int consumers) throws InterruptedException {
+		for (int i = 0; i < consumers; i++) {
+			queue.put(new Item<>(Item.END, null));
+		}
+	}
+
+	/**
+	 * Represents the limits of a file pipeline.
+	 *
+	 * @param ioConcurrency the maximum number of files read or written at once
+	 * @param transformConcurrency the maximum number of files transformed at once
+	 * @param queueCapacity the maximum number of files waiting between two stages
+	 */
+	public record Limits(int ioConcurrency, int transformConcurrency, int queueCapacity) {
+		public Limits {
+			if (ioConcurrency < 1 || transformConcurrency < 1 || queueCapacity < 1) {
+				throw new IllegalArgumentException("File pipeline limits must be positive, got " + ioConcurrency
+						+ ", " + transformConcurrency + " and " + queueCapacity + ".");
+			}
+		}
+	}
+
+	private record Item<T>(int index, @Nullable T value) {
+		static final int END = -1;
+	}
+}
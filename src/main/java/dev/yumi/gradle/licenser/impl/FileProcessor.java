@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.impl;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Represents the processor of files, which may process several files at once.
+ * <p>
+ * Processing a file mostly waits on I/O, like reading it or looking up its history.
+ * Processing several files at once overlaps these waits, which matters on high-latency file systems.
+ * <p>
+ * On Java 21 and later, each file is processed on its own virtual thread, while a semaphore bounds
+ * the number of files processed at once. On older Java versions, a bounded pool of platform threads is used instead.
+ *
+ * @author LambdAurora
+ * @version 4.1.0
+ * @since 4.1.0
+ */
+@ApiStatus.Internal
+public final class FileProcessor implements AutoCloseable {
+	/**
+	 * The processor which processes the files one by one on the calling thread.
+	 */
+	public static final FileProcessor SEQUENTIAL = new FileProcessor(null, null);
+	private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+	private final @Nullable ExecutorService executor;
+	private final @Nullable Semaphore permits;
+
+	private FileProcessor(@Nullable ExecutorService executor, @Nullable Semaphore permits) {
+		this.executor = executor;
+		this.permits = permits;
+	}
+
+	/**
+	 * Creates a file processor.
+	 *
+	 * @param concurrency the maximum number of files processed at once
+	 * @return the file processor, which must be closed once done
+	 */
+	public static FileProcessor create(int concurrency) {
+		if (concurrency <= 1) {
+			return SEQUENTIAL;
+		}
+
+		ExecutorService virtualExecutor = createVirtualThreadExecutor();
+
+		if (virtualExecutor != null) {
+			// Virtual threads are cheap, the semaphore bounds the number of files open at once.
+			return new FileProcessor(virtualExecutor, new Semaphore(concurrency));
+		}
+
+		return new FileProcessor(createPlatformThreadExecutor(concurrency, "yumi-licenser-file-"), null);
+	}
+
+	/**
+	 * Creates an executor for tasks which mostly wait on I/O, running each task on its own thread.
+	 * <p>
+	 * On Java 21 and later, each task runs on a new virtual thread.
+	 * On older Java versions, a pool of the given number of platform threads is used instead.
+	 *
+	 * @param threadCount the maximum number of tasks running at once on platform threads
+	 * @param threadName the prefix of the names of the platform threads
+	 * @return the executor, which must be shut down once done
+	 */
+	public static ExecutorService createExecutor(int threadCount, String threadName) {
+		ExecutorService virtualExecutor = createVirtualThreadExecutor();
+		return virtualExecutor != null ? virtualExecutor : createPlatformThreadExecutor(threadCount, threadName);
+	}
+
+	private static ExecutorService createPlatformThreadExecutor(int threadCount, String threadName) {
+		return Executors.newFixedThreadPool(threadCount, runnable -> {
+			var thread = new Thread(runnable, threadName + THREAD_COUNTER.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Creates an executor running each task on a new virtual thread, if supported by the current Java runtime.
+	 * <p>
+	 * The plugin targets Java 17, so the executor is looked up reflectively.
+	 *
+	 * @return the executor, or {@code null} if virtual threads are not supported
+	 */
+	private static @Nullable ExecutorService createVirtualThreadExecutor() {
+		if (Runtime.version().feature() < 21) {
+			return null;
+		}
+
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * {@return {@code true} if this processor processes several files at once, or {@code false} otherwise}
+	 */
+	public boolean isConcurrent() {
+		return this.executor != null;
+	}
+
+	/**
+	 * Processes the given files.
+	 * <p>
+	 * If the processing of a file throws an exception, the files not processed yet are skipped
+	 * and the exception is rethrown.
+	 *
+	 * @param files the files to process
+	 * @param action the action processing a single file, which must be thread-safe if this processor is concurrent
+	 * @param <I> the type of the files
+	 * @param <O> the type of the results
+	 * @return the results, in the order of the given files
+	 */
+	public <I, O> List<O> process(Iterable<I> files, Function<I, O> action) {
+		var results = new ArrayList<O>();
+
+		if (this.executor == null) {
+			for (var file : files) {
+				results.add(action.apply(file));
+			}
+
+			return results;
+		}
+
+		var futures = new ArrayList<Future<O>>();
+
+		for (var file : files) {
+			futures.add(this.executor.submit(() -> this.run(action, file)));
+		}
+
+		try {
+			for (var future : futures) {
+				results.add(future.get());
+			}
+		} catch (ExecutionException e) {
+			futures.forEach(future -> future.cancel(true));
+
+			if (e.getCause() instanceof RuntimeException exception) {
+				throw exception;
+			} else if (e.getCause() instanceof Error error) {
+				throw error;
+			}
+
+			throw new IllegalStateException("Failed to process a file.", e.getCause());
+		} catch (InterruptedException e) {
+			futures.forEach(future -> future.cancel(true));
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while processing files.", e);
+		}
+
+		return results;
+	}
+
+	private <I, O> O run(Function<I, O> action, I file) throws InterruptedException {
+		if (this.permits == null) {
+			return action.apply(file);
+		}
+
+		this.permits.acquire();
+
+		try {
+			return action.apply(file);
+		} finally {
+			this.permits.release();
+		}
+	}
+
+	@Override
+	public void close() {
+		if (this.executor != null) {
+			this.executor.shutdownNow();
+		}
+	}
+}
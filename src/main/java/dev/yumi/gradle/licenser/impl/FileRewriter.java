@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.impl;
+
+import org.jetbrains.annotations.ApiStatus;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+
+/**
+ * Provides the rewriting of the start of files, like their header comment.
+ * <p>
+ * The new start is written to a temporary file next to the file, followed by the rest of the file
+ * which is transferred as is without being decoded. The temporary file then atomically replaces the file,
+ * so that an interrupted rewrite never leaves a partially written file behind.
+ * <p>
+ * A new start of the same length as the replaced one, like a header whose year got bumped, is patched in place instead.
+ * Only the bytes which differ are written, which spares rewriting the whole file.
+ * This trades the atomicity of the replacement for speed: an interrupted patch may leave the start of the file
+ * partially updated, although its length and the rest of its content are never affected.
+ *
+ * @author LambdAurora
+ * @version 4.1.0
+ * @since 4.1.0
+ */
+@ApiStatus.Internal
+public final class FileRewriter {
+	/**
+	 * The number of equal bytes from which two differences are patched separately rather than at once.
+	 */
+	private static final int PATCH_GAP = 16;
+
+	private FileRewriter() {
+		throw new UnsupportedOperationException("FileRewriter only contains static definitions.");
+	}
+
+	/**
+	 * Replaces the start of the given file.
+	 *
+	 * @param file the file to rewrite
+	 * @param start the new start of the file
+	 * @param replacedLength the number of bytes at the start of the file which are replaced
+	 * @throws IOException if the file could not be rewritten, in which case it is left untouched,
+ * unless patched in place where its start may be partially updated
+	 */
+	public static void replaceStart(Path file, String start, long replacedLength) throws IOException {
+		// The target of a symbolic link is rewritten, instead of replacing the link itself.
+		Path target = file.toRealPath();
+		byte[] bytes = start.getBytes(StandardCharsets.UTF_8);
+
+		if (bytes.length == replacedLength && patchInPlace(target, bytes)) {
+			return;
+		}
+
+		Path tempFile = Files.createTempFile(target.getParent(), "." + target.getFileName(), ".tmp");
+
+		try {
+			try (var in = FileChannel.open(target, StandardOpenOption.READ);
+			     var out = FileChannel.open(tempFile, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+				var head = ByteBuffer.wrap(bytes);
+
+				while (head.hasRemaining()) {
+					out.write(head);
+				}
+
+				long position = replacedLength;
+				long size = in.size();
+
+				while (position < size) {
+					long transferred = in.transferTo(position, size - position, out);
+
+					if (transferred <= 0) {
+						throw new IOException("File " + target + " got truncated while being rewritten.");
+					}
+
+					position += transferred;
+				}
+			}
+
+			copyPermissions(target, tempFile);
+
+			try {
+				Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	/**
+	 * Patches the start of the given file in place with a new start of the same length.
+	 *
+	 * @param file the file to patch
+	 * @param start the new start of the file
+	 * @return {@code true} if the file got patched, or {@code false} if the file is shorter than the new start
+	 * @throws IOException if the file could not be patched
+	 */
+	private static boolean patchInPlace(Path file, byte[] start) throws IOException {
+		try (var channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			var current = ByteBuffer.allocate(start.length);
+
+			while (current.hasRemaining()) {
+				if (channel.read(current, current.position()) == -1) {
+					return false;
+				}
+			}
+
+			byte[] old = current.array();
+			int i = 0;
+
+			while (i < start.length) {
+				if (old[i] == start[i]) {
+					i++;
+					continue;
+				}
+
+				// Differences close to each other are written at once.
+				int end = i + 1;
+
+				for (int j = end, equal = 0; j < start.length && equal < PATCH_GAP; j++) {
+					if (old[j] == start[j]) {
+						equal++;
+					} else {
+						equal = 0;
+						end = j + 1;
+					}
+				}
+
+				var patch = ByteBuffer.wrap(start, i, end - i);
+
+				while (patch.hasRemaining()) {
+					channel.write(patch, patch.position());
+				}
+
+				i = end;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Copies the permissions of a file to the temporary file replacing it, which is only readable by its owner.
+	 *
+	 * @param file the file
+	 * @param tempFile the temporary file
+	 * @throws IOException if the permissions could not be copied
+	 */
+	private static void copyPermissions(Path file, Path tempFile) throws IOException {
+		if (Files.getFileAttributeView(file, PosixFileAttributeView.class) != null) {
+			Files.setPosixFilePermissions(tempFile, Files.getPosixFilePermissions(file));
+		}
+	}
+}
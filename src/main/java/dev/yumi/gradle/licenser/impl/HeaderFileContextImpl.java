@@ -11,16 +11,34 @@ package dev.yumi.gradle.licenser.impl;
 import dev.yumi.gradle.licenser.api.rule.HeaderFileContext;
 
 import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
 
 final class HeaderFileContextImpl implements HeaderFileContext {
 	private final String fileName;
 	private final IntSupplier creationYear;
 	private final IntSupplier lastModifiedYear;
+	private final IntUnaryOperator lastModifiedYearSince;
 
-	HeaderFileContextImpl(String fileName, IntSupplier creationYear, IntSupplier lastModifiedYear) {
+	HeaderFileContextImpl(
+			String fileName, IntSupplier creationYear, IntSupplier lastModifiedYear, IntUnaryOperator lastModifiedYearSince
+	) {
 		this.fileName = fileName;
 		this.creationYear = creationYear;
 		this.lastModifiedYear = lastModifiedYear;
+		this.lastModifiedYearSince = lastModifiedYearSince;
+	}
+
+	/**
+	 * Creates a file context whose years are not available, for headers which don't need them.
+	 *
+	 * @param fileName the name of the file
+	 * @return the file context
+	 */
+	static HeaderFileContextImpl withoutYears(String fileName) {
+		IntSupplier unavailable = () -> {
+			throw new IllegalStateException("The years of " + fileName + " have not been looked up.");
+		};
+		return new HeaderFileContextImpl(fileName, unavailable, unavailable, knownYear -> unavailable.getAsInt());
 	}
 
 	@Override
@@ -37,4 +55,9 @@ final class HeaderFileContextImpl implements HeaderFileContext {
 	public int lastModifiedYear() {
 		return this.lastModifiedYear.getAsInt();
 	}
+
+	@Override
+	public int lastModifiedYearSince(int knownYear) {
+		return this.lastModifiedYearSince.applyAsInt(knownYear);
+	}
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.impl;
+
+import dev.yumi.gradle.licenser.api.comment.HeaderComment;
+import dev.yumi.gradle.licenser.util.Utils;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Represents the start of a source file, read up to the end of its header comment.
+ * <p>
+ * The header comment is at the start of the file, so reading the whole file to find it is wasteful for large files.
+ * The file is instead read in a window which grows until the header comment can be read from it.
+ * The window is scanned as bytes, and only the header comment and what comes before it are decoded.
+ *
+ * @param prefix the decoded start of the source file before the header comment
+ * @param result the read header comment, whose start and end are byte offsets in the source file
+ * @author LambdAurora
+ * @version 4.1.0
+ * @since 4.1.0
+ */
+@ApiStatus.Internal
+public record HeaderWindow(String prefix, HeaderComment.Result result) {
+	/**
+	 * The size of the first window, in bytes, which fits most header comments.
+	 */
+	static final int INITIAL_SIZE = 8192;
+
+	/**
+	 * Reads the start of the given source file, up to the end of its header comment.
+	 *
+	 * @param path the path of the source file
+	 * @param headerComment the header comment reader of the source file
+	 * @return the read start of the source file
+	 * @throws IOException if the source file could not be read or its header comment isn't valid UTF-8
+	 * @throws IllegalStateException if the header comment reader needs more of the source file than its whole content
+	 */
+	public static HeaderWindow read(Path path, HeaderComment headerComment) throws IOException {
+		var buffer = ByteBuffer.allocate(INITIAL_SIZE);
+
+		try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			while (true) {
+				boolean complete = fill(channel, buffer);
+				buffer.flip();
+				// Not read-only, so that the byte scanners can read the backing array.
+				var result = headerComment.readHeaderComment(buffer.duplicate(), complete);
+
+				if (result != null) {
+					return new HeaderWindow(Utils.decodeUtf8(buffer, 0, result.start(), true), result);
+				} else if (complete) {
+					throw new IllegalStateException("Header comment reader " + headerComment
+							+ " needed more than the whole content of " + path + ".");
+				}
+
+				// The header comment continues past the window, which grows to read the rest of it.
+				var larger = ByteBuffer.allocate(buffer.capacity() * 2);
+				larger.put(buffer);
+				buffer = larger;
+			}
+		}
+	}
+
+	/**
+	 * Reads the given channel until the buffer is full or the end of the channel is reached.
+	 *
+	 * @param channel the channel to read
+	 * @param buffer the buffer to read into
+	 * @return {@code true} if the end of the channel got reached, or {@code false} otherwise
+	 * @throws IOException if the channel could not be read
+	 */
+	private static boolean fill(FileChannel channel, ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer) == -1) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+}
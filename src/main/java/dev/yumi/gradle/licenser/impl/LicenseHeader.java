@@ -12,6 +12,7 @@ import dev.yumi.gradle.licenser.api.rule.HeaderLine;
 import dev.yumi.gradle.licenser.api.rule.HeaderRule;
 import dev.yumi.gradle.licenser.api.rule.LicenseYearSelectionMode;
 import dev.yumi.gradle.licenser.api.rule.variable.VariableType;
+import dev.yumi.gradle.licenser.impl.git.YearResolver;
 import dev.yumi.gradle.licenser.util.MemoizingIntSupplier;
 import org.jspecify.annotations.Nullable;
 
@@ -23,7 +24,7 @@ import java.util.*;
  * Represents the valid license headers for this project.
  *
  * @author LambdAurora
- * @version 2.2.0
+ * @version 4.1.0
  * @since 1.0.0
  */
 public final class LicenseHeader implements Serializable {
@@ -86,6 +87,25 @@ public final class LicenseHeader implements Serializable {
 	 */
 	public @Nullable List<String> format(
 			Path rootPath, int projectCreationYear, LogConsumer logger, Path path, @Nullable List<String> readComment
+	) {
+		return this.format(YearResolver.DIRECT, rootPath, projectCreationYear, logger, path, readComment);
+	}
+
+	/**
+	 * Formats the given file to contain the correct license header.
+	 *
+	 * @param yearResolver the resolver of the years of the file
+	 * @param rootPath the root directory of the project the path is in
+	 * @param projectCreationYear the creation year of the project
+	 * @param logger the logger
+	 * @param path the path of the file
+	 * @param readComment the read header comment if successful, or {@code null} otherwise
+	 * @return {@code true} if files changed, otherwise {@code false}
+	 * @since 4.1.0
+	 */
+	public @Nullable List<String> format(
+			YearResolver yearResolver,
+			Path rootPath, int projectCreationYear, LogConsumer logger, Path path, @Nullable List<String> readComment
 	) {
 		List<String> newHeader = null;
 
@@ -93,7 +113,7 @@ public final class LicenseHeader implements Serializable {
 			logger.log("  => Could not find header. Using default rule.");
 
 			newHeader = this.format(
-					rootPath, projectCreationYear, path, this.rules.get(0),
+					yearResolver, rootPath, projectCreationYear, path, this.rules.get(0),
 					new HeaderRule.ParsedData(Map.of(), Collections.emptySet(), null)
 			);
 		} else {
@@ -105,7 +125,7 @@ public final class LicenseHeader implements Serializable {
 				if (data.error() == null) {
 					logger.log("  => Found rule in lookup.");
 
-					newHeader = this.format(rootPath, projectCreationYear, path, rule, data);
+					newHeader = this.format(yearResolver, rootPath, projectCreationYear, path, rule, data);
 					break;
 				}
 
@@ -117,7 +137,7 @@ public final class LicenseHeader implements Serializable {
 			if (newHeader == null) {
 				logger.log("  => Could not find rule in lookup. Using default rule.");
 
-				newHeader = this.format(rootPath, projectCreationYear, path, this.rules.get(0), first);
+				newHeader = this.format(yearResolver, rootPath, projectCreationYear, path, this.rules.get(0), first);
 			}
 		}
 
@@ -129,18 +149,31 @@ public final class LicenseHeader implements Serializable {
 	}
 
 	private List<String> format(
+			YearResolver yearResolver,
 			Path rootPath, int projectCreationYear, Path path, HeaderRule rule, HeaderRule.ParsedData parsed
 	) {
+		if (!rule.requiresYearLookup(parsed)) {
+			// The header already contains every year it needs, the history of the file doesn't need to be looked up.
+			return rule.apply(parsed, HeaderFileContextImpl.withoutYears(path.getFileName().toString()));
+		}
+
+		// The path whose history gives the years, which is the project root directory for project-wide years.
+		Path commitPath = rule.getYearSelectionMode().getPathForCommitFetching(rootPath, path);
 		var context = new HeaderFileContextImpl(
 				path.getFileName().toString(),
 				new MemoizingIntSupplier(() -> {
+					if (commitPath != path) {
+						return projectCreationYear;
+					}
+
 					try {
-						return rule.getYearSelectionMode().getCreationYear(rootPath, projectCreationYear, path);
+						return yearResolver.getCreationYear(rootPath, commitPath);
 					} catch (IOException e) {
 						throw new RuntimeException(e);
 					}
 				}),
-				new MemoizingIntSupplier(() -> rule.getYearSelectionMode().getModificationYear(rootPath, path))
+				new MemoizingIntSupplier(() -> yearResolver.getModificationYear(rootPath, commitPath)),
+				knownYear -> yearResolver.getModificationYearSince(rootPath, commitPath, knownYear)
 		);
 		return rule.apply(parsed, context);
 	}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.impl.git;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.Nullable;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+/**
+ * Represents an open registration of files whose years may be requested.
+ * <p>
+ * While it is open, the lookups of years in its repository wait, so that every file registered through it
+ * is indexed in a single walk of the history once it is closed, even if the files are registered bit by bit.
+ *
+ * @author LambdAurora
+ * @version 4.1.0
+ * @since 4.1.0
+ * @see GitRepositories#openRegistration(Path, RepositoryOptions)
+ */
+@ApiStatus.Internal
+public final class FileRegistration implements AutoCloseable {
+	private final @Nullable SharedGitRepository repository;
+	private boolean closed = false;
+
+	FileRegistration(@Nullable SharedGitRepository repository) {
+		this.repository = repository;
+	}
+
+	/**
+	 * Registers files whose years may be requested.
+	 *
+	 * @param files the files
+	 */
+	public void register(Iterable<Path> files) {
+		if (this.repository == null) {
+			// Not a Git repository, every year will be resolved as the current year.
+			return;
+		}
+
+		var paths = new ArrayList<String>();
+
+		for (var file : files) {
+			paths.add(this.repository.relativize(file));
+		}
+
+		this.repository.registerFiles(paths);
+	}
+
+	@Override
+	public void close() {
+		if (!this.closed && this.repository != null) {
+			this.closed = true;
+			this.repository.closeRegistration();
+		}
+	}
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.impl.git;
+
+import org.eclipse.jgit.internal.storage.commitgraph.ChangedPathFilter;
+import org.eclipse.jgit.internal.storage.commitgraph.CommitGraph;
+import org.eclipse.jgit.internal.storage.commitgraph.CommitGraphLoader;
+import org.eclipse.jgit.internal.storage.commitgraph.CommitGraphWriter;
+import org.eclipse.jgit.internal.storage.commitgraph.GraphCommits;
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.NullProgressMonitor;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Represents the commit-graph of a repository, whose changed-path Bloom filters let history walks
+ * skip the commits which cannot have touched the paths they look for without diffing their trees.
+ * <p>
+ * The commit-graph of the repository is used if it contains Bloom filters, otherwise the one written in the cache directory.
+ * A commit-graph which doesn't know about the latest commits is still used, as those commits are simply diffed,
+ * and is only written again in the cache directory once too many commits are missing from both.
+ * <p>
+ * The commit-graph support of JGit is internal API, which may change with any JGit version.
+ * Any failure of it disables the Bloom filters rather than the history walks relying on them.
+ *
+ * @author LambdAurora
+ * @version 4.1.0
+ * @since 4.1.0
+ */
+@ApiStatus.Internal
+public final class GitCommitGraph {
+	/**
+	 * The maximum number of commits reachable from the head commit which may be missing from a commit-graph
+	 * before it gets written again.
+	 */
+	static final int MAX_MISSING_COMMITS = 1000;
+
+	private final Repository repository;
+	private final Path cacheFile;
+	private @Nullable CommitGraph graph;
+	private boolean loaded;
+
+	/**
+	 * Creates a commit-graph, which is only loaded once it is first requested.
+	 *
+	 * @param repository the repository
+	 * @param cacheFile the file in which the commit-graph is written if the repository doesn't have a usable one
+	 */
+	public GitCommitGraph(Repository repository, Path cacheFile) {
+		this.repository = repository;
+		this.cacheFile = cacheFile;
+	}
+
+	/**
+	 * Gets the loaded commit-graph, loading or writing it if needed.
+	 *
+	 * @param reader the object reader to read the history with
+	 * @param head the commit the commit-graph should know about
+	 * @return the commit-graph, or {@code null} if none could be loaded
+	 */
+	public synchronized @Nullable CommitGraph get(ObjectReader reader, AnyObjectId head) {
+		if (!this.loaded) {
+			this.loaded = true;
+
+			try {
+				this.graph = this.load(reader, head);
+			} catch (RuntimeException | LinkageError e) {
+				// The internal commit-graph API of JGit changed, the history is walked without Bloom filters.
+				this.graph = null;
+			}
+		}
+
+		return this.graph;
+	}
+
+	private @Nullable CommitGraph load(ObjectReader reader, AnyObjectId head) {
+		CommitGraph graph = read(this.repository.getDirectory().toPath().resolve("objects/info/commit-graph"));
+
+		if (isUsable(graph, reader, head)) {
+			return graph;
+		}
+
+		graph = read(this.cacheFile);
+
+		if (isUsable(graph, reader, head)) {
+			return graph;
+		}
+
+		try {
+			write(reader, head, this.cacheFile);
+			graph = read(this.cacheFile);
+		} catch (IOException e) {
+			return null;
+		}
+
+		return hasBloomFilters(graph) ? graph : null;
+	}
+
+	private static @Nullable CommitGraph read(Path file) {
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+
+		try (var in = new BufferedInputStream(Files.newInputStream(file))) {
+			return CommitGraphLoader.read(in, true);
+		} catch (IOException e) {
+			// Includes corrupted commit-graph files, which are then ignored.
+			return null;
+		}
+	}
+
+	private static boolean isUsable(@Nullable CommitGraph graph, ObjectReader reader, AnyObjectId head) {
+		if (!hasBloomFilters(graph)) {
+			return false;
+		}
+
+		try {
+			return countMissingCommits(graph, reader, head, MAX_MISSING_COMMITS) < MAX_MISSING_COMMITS;
+		} catch (IOException e) {
+			return false;
+		}
+	}
+
+	private static boolean hasBloomFilters(@Nullable CommitGraph graph) {
+		return graph != null && graph.getCommitCnt() > 0 && graph.getChangedPathFilter(0) != null;
+	}
+
+	/**
+	 * Counts the commits reachable from the given commit which are missing from the given commit-graph.
+	 * <p>
+	 * The commits of the commit-graph are not walked further, as their ancestors are in it too.
+	 *
+	 * @param graph the commit-graph
+	 * @param reader the object reader to read the history with
+	 * @param head the newest commit
+	 * @param limit the count at which counting stops
+	 * @return the number of missing commits, up to the limit
+	 * @throws IOException if the history could not be read
+	 */
+	static int countMissingCommits(CommitGraph graph, ObjectReader reader, AnyObjectId head, int limit)
+			throws IOException {
+		int missing = 0;
+
+		try (var revWalk = new RevWalk(reader)) {
+			var seen = revWalk.newFlag("seen");
+			var queue = new ArrayDeque<RevCommit>();
+			var start = revWalk.parseCommit(head);
+			start.add(seen);
+			queue.add(start);
+
+			while (!queue.isEmpty() && missing < limit) {
+				var commit = queue.poll();
+
+				if (graph.findGraphPosition(commit) >= 0) {
+					continue;
+				}
+
+				missing++;
+				revWalk.parseHeaders(commit);
+
+				for (var parent : commit.getParents()) {
+					if (!parent.has(seen)) {
+						parent.add(seen);
+						queue.add(parent);
+					}
+				}
+			}
+		}
+
+		return missing;
+	}
+
+	/**
+	 * Writes the commit-graph of every commit reachable from the given commit, along with its changed-path Bloom filters.
+	 *
+	 * @param reader the object reader to read the history with
+	 * @param head the newest commit
+	 * @param file the file to write the commit-graph to
+	 * @throws IOException if the history could not be read or the file could not be written
+	 */
+	static void write(ObjectReader reader, AnyObjectId head, Path file) throws IOException {
+		Files.createDirectories(file.getParent());
+		// Unique so that concurrent worker processes never write to the same temporary file.
+		var tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+
+		try (var revWalk = new RevWalk(reader)) {
+			var commits = GraphCommits.fromWalk(NullProgressMonitor.INSTANCE, Set.of(head.copy()), revWalk);
+
+			try (var out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+				new CommitGraphWriter(commits, true).write(NullProgressMonitor.INSTANCE, out);
+			}
+
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	/**
+	 * Creates the probes to look for in changed-path Bloom filters to know whether a commit may have touched
+	 * any of the given paths.
+	 * <p>
+	 * Bloom filters also contain the directories of the changed paths, so the parent directories of the paths
+	 * are used as probes as they are far fewer than the paths themselves.
+	 *
+	 * @param paths the paths, relative to the repository root
+	 * @return the probes
+	 */
+	static List<byte[]> createProbes(Collection<String> paths) {
+		var probes = new LinkedHashSet<String>();
+
+		for (var path : paths) {
+			int separator = path.lastIndexOf('/');
+			probes.add(separator == -1 ? path : path.substring(0, separator));
+		}
+
+		return probes.stream().map(probe -> probe.getBytes(StandardCharsets.UTF_8)).toList();
+	}
+
+	/**
+	 * Checks whether the given commit may have touched any path matched by the given probes,
+	 * compared to its first parent.
+	 *
+	 * @param graph the commit-graph
+	 * @param commit the commit
+	 * @param probes the probes created by {@link #createProbes(Collection)}
+	 * @return {@code true} if the commit may have touched any of the paths, or {@code false} if it certainly didn't
+	 */
+	static boolean mayTouch(CommitGraph graph, ObjectId commit, List<byte[]> probes) {
+		try {
+			int position = graph.findGraphPosition(commit);
+
+			if (position < 0) {
+				return true;
+			}
+
+			ChangedPathFilter filter = graph.getChangedPathFilter(position);
+
+			if (filter == null) {
+				return true;
+			}
+
+			for (var probe : probes) {
+				if (filter.maybeContains(probe)) {
+					return true;
+				}
+			}
+
+			return false;
+		} catch (RuntimeException | LinkageError e) {
+			// The commit is diffed, as if it had no Bloom filter.
+			return true;
+		}
+	}
+}
@@ -0,0 +1,542 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.impl.git;
+
+import dev.yumi.gradle.licenser.util.GitUtils;
+import org.eclipse.jgit.diff.DiffConfig;
+import org.eclipse.jgit.diff.DiffEntry;
+import org.eclipse.jgit.diff.RenameDetector;
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevFlag;
+import org.eclipse.jgit.revwalk.RevSort;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.AndTreeFilter;
+import org.eclipse.jgit.treewalk.filter.PathFilterGroup;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Represents an index of the years in which the registered paths of a repository got created.
+ * <p>
+ * The history of every registered path is walked back from the head commit in a single walk, through every parent
+ * of merge commits and following renames, until the commit which added the path.
+ * Like {@code git log --follow}, a merge commit whose path is the same as in one of its parents only follows this parent,
+ * so files added in a merged branch are considered created by the commit of the branch which added them.
+ * If the path got added independently in several parents, the oldest year is kept.
+ * <p>
+ * The index is computed at a given commit, if {@code HEAD} moves forward only the new commits are walked.
+ *
+ * @author LambdAurora
+ * @version 4.1.0
+ * @since 4.1.0
+ */
+@ApiStatus.Internal
+public final class GitCreationIndex {
+	/**
+	 * The default maximum number of files compared to detect renames in a single commit.
+	 */
+	public static final int DEFAULT_RENAME_LIMIT = 1000;
+	/**
+	 * The year of the paths which are not present in the indexed commit.
+	 */
+	private static final int ABSENT = -1;
+	private static final int FORMAT_VERSION = 2;
+
+	private final Map<String, Integer> years = new HashMap<>();
+	private final Set<String> pending = new HashSet<>();
+	private @Nullable ObjectId indexedHead;
+	private boolean modified = false;
+
+	/**
+	 * Registers paths to index.
+	 * <p>
+	 * The paths are only indexed once a year is requested for any of them.
+	 *
+	 * @param paths the paths to index, relative to the repository root
+	 */
+	public synchronized void register(Collection<String> paths) {
+		this.pending.addAll(paths);
+	}
+
+	/**
+	 * Gets the year in which the given path got created.
+	 * <p>
+	 * If the path has not been indexed yet, every pending path is indexed in the same walk.
+	 * If the index has not been computed at the given head commit yet, the indexed paths are brought up to date first.
+	 *
+	 * @param reader the object reader to read the history with
+	 * @param diffConfig the diff configuration of the repository
+	 * @param renameLimit the maximum number of files compared to detect renames in a single commit,
+	 * or {@code 0} to disable rename detection
+	 * @param head the commit to index the history up to, or {@code null} if there is no commit yet
+	 * @param path the path, relative to the repository root
+	 * @return the year in which the path got created, or {@code null} if the path is not present in the head commit
+	 * @throws IOException if the history could not be read
+	 */
+	public synchronized @Nullable Integer getYear(
+			ObjectReader reader, DiffConfig diffConfig, int renameLimit, @Nullable AnyObjectId head, String path
+	) throws IOException {
+		if (head == null) {
+			return null;
+		}
+
+		if (!head.equals(this.indexedHead)) {
+			this.catchUp(reader, diffConfig, renameLimit, head);
+		}
+
+		if (!this.years.containsKey(path)) {
+			this.pending.add(path);
+			var missing = this.pending.stream().filter(pendingPath -> !this.years.containsKey(pendingPath)).toList();
+			this.index(reader, diffConfig, renameLimit, head, missing, null, Map.of());
+			this.pending.clear();
+		}
+
+		Integer year = this.years.get(path);
+		return year == null || year == ABSENT ? null : year;
+	}
+
+	/**
+	 * Brings the already indexed years up to date with the given head commit, and indexes the pending paths along with them.
+	 * <p>
+	 * Only the commits since the previously indexed commit are walked,
+	 * the paths whose history goes through other commits are walked again from scratch.
+	 *
+	 * @param reader the object reader to read the history with
+	 * @param diffConfig the diff configuration of the repository
+	 * @param renameLimit the maximum number of files compared to detect renames in a single commit
+	 * @param head the new head commit
+	 * @throws IOException if the history could not be read
+	 */
+	private void catchUp(ObjectReader reader, DiffConfig diffConfig, int renameLimit, AnyObjectId head)
+			throws IOException {
+		var paths = new HashSet<>(this.years.keySet());
+		paths.addAll(this.pending);
+		var previousYears = new HashMap<>(this.years);
+
+		this.years.clear();
+		this.pending.clear();
+
+		if (!paths.isEmpty()) {
+			this.index(reader, diffConfig, renameLimit, head, paths, this.indexedHead, previousYears);
+		}
+
+		this.indexedHead = head.copy();
+		this.modified = true;
+	}
+
+	private void index(
+			ObjectReader reader, DiffConfig diffConfig, int renameLimit, AnyObjectId head, Collection<String> paths,
+			@Nullable AnyObjectId stop, Map<String, Integer> stopYears
+	) throws IOException {
+		var unresolved = new HashSet<String>();
+		var indexed = walk(reader, diffConfig, renameLimit, head, paths, stop, stopYears, unresolved);
+
+		if (!unresolved.isEmpty()) {
+			// Nothing is left unresolved without a stop commit.
+			indexed.putAll(walk(reader, diffConfig, renameLimit, head, unresolved, null, Map.of(), new HashSet<>()));
+		}
+
+		for (var path : paths) {
+			this.years.put(path, indexed.getOrDefault(path, ABSENT));
+		}
+
+		this.modified = true;
+	}
+
+	/**
+	 * Walks the history of the given paths back from the given head commit, to find the years in which they got created.
+	 *
+	 * @param reader the object reader to read the history with
+	 * @param diffConfig the diff configuration of the repository
+	 * @param renameLimit the maximum number of files compared to detect renames in a single commit,
+	 * or {@code 0} to disable rename detection
+	 * @param head the commit to start walking the history from
+	 * @param paths the paths, relative to the repository root
+	 * @param stop the commit at which the walk stops along with its ancestors, or {@code null} to walk the whole history
+	 * @param stopYears the creation years of the paths present in the stop commit
+	 * @param unresolved the set to which the paths whose history goes through ancestors of the stop commit
+	 * other than the stop commit itself, or through unknown paths of the stop commit, are added
+	 * @return the creation year of each resolved path present in the head commit
+	 * @throws IOException if the history could not be read
+	 */
+	static Map<String, Integer> walk(
+			ObjectReader reader, DiffConfig diffConfig, int renameLimit, AnyObjectId head, Collection<String> paths,
+			@Nullable AnyObjectId stop, Map<String, Integer> stopYears, Set<String> unresolved
+	) throws IOException {
+		var years = new HashMap<String, Integer>();
+
+		if (paths.isEmpty()) {
+			return years;
+		}
+
+		var renameDetector = new RenameDetector(reader, diffConfig);
+		renameDetector.setRenameLimit(renameLimit);
+
+		try (
+				var revWalk = new RevWalk(reader);
+				var treeWalk = new TreeWalk(reader)
+		) {
+			revWalk.setRetainBody(false);
+			// Children first, so that the paths a commit is tracked for are all known once it is reached.
+			revWalk.sort(RevSort.TOPO);
+			treeWalk.setRecursive(true);
+
+			RevCommit start = revWalk.parseCommit(head);
+			revWalk.markStart(start);
+
+			RevCommit boundary = stop != null ? markBoundary(revWalk, stop) : null;
+
+			var initial = collectPresentPaths(treeWalk, start, paths);
+
+			if (initial.isEmpty()) {
+				return years;
+			}
+
+			var tracked = new HashMap<RevCommit, Tracking>();
+			tracked.put(start, new Tracking(initial));
+
+			for (var commit : revWalk) {
+				var tracking = tracked.remove(commit);
+
+				if (tracking == null) {
+					continue;
+				}
+
+				var step = new Step(revWalk, commit);
+
+				if (commit.getParentCount() == 0) {
+					for (var created : tracking.names.values()) {
+						step.create(years, created);
+					}
+				} else {
+					step.follow(treeWalk, renameDetector, tracking, years);
+				}
+
+				for (int i = 0; i < commit.getParentCount(); i++) {
+					var parentTracking = step.parentTrackings[i];
+
+					if (parentTracking == null) {
+						continue;
+					}
+
+					RevCommit parent = commit.getParent(i);
+
+					if (parent.has(RevFlag.UNINTERESTING)) {
+						// Already indexed, or walked again from scratch if the indexed years cannot be used.
+						parentTracking.names.forEach((name, followed) -> {
+							Integer year = parent.equals(boundary) ? stopYears.get(name) : null;
+
+							if (year == null || year == ABSENT) {
+								unresolved.addAll(followed);
+							} else {
+								followed.forEach(path -> years.merge(path, year, Math::min));
+							}
+						});
+					} else {
+						tracked.merge(parent, parentTracking, Tracking::merge);
+					}
+				}
+
+				if (tracked.isEmpty()) {
+					// The creation of every path has been found, the rest of the history is irrelevant.
+					break;
+				}
+			}
+		}
+
+		years.keySet().removeAll(unresolved);
+		return years;
+	}
+
+	private static @Nullable RevCommit markBoundary(RevWalk revWalk, AnyObjectId stop) {
+		try {
+			RevCommit boundary = revWalk.parseCommit(stop);
+			revWalk.markUninteresting(boundary);
+			return boundary;
+		} catch (IOException e) {
+			// The indexed commit doesn't exist anymore, the history has been rewritten.
+			return null;
+		}
+	}
+
+	/**
+	 * Collects the given paths which are present in the tree of the given commit.
+	 *
+	 * @param treeWalk the tree walk
+	 * @param commit the commit
+	 * @param paths the paths
+	 * @return the present paths, each mapped to the set of itself
+	 * @throws IOException if the tree could not be read
+	 */
+	private static Map<String, Set<String>> collectPresentPaths(TreeWalk treeWalk, RevCommit commit, Collection<String> paths)
+			throws IOException {
+		var wanted = new HashSet<>(paths);
+		var present = new HashMap<String, Set<String>>();
+
+		treeWalk.reset(commit.getTree());
+		treeWalk.setFilter(PathFilterGroup.createFromStrings(wanted));
+
+		while (treeWalk.next()) {
+			String path = treeWalk.getPathString();
+
+			if (wanted.contains(path)) {
+				present.put(path, Set.of(path));
+			}
+		}
+
+		return present;
+	}
+
+	private static Map<String, String> detectRenames(
+			TreeWalk treeWalk, RenameDetector renameDetector, RevCommit parent, RevCommit commit
+	) throws IOException {
+		treeWalk.reset(parent.getTree(), commit.getTree());
+		treeWalk.setFilter(TreeFilter.ANY_DIFF);
+
+		List<DiffEntry> entries = DiffEntry.scan(treeWalk);
+		var renames = new HashMap<String, String>();
+
+		if (hasAdditionsAndDeletions(entries)) {
+			renameDetector.reset();
+			renameDetector.addAll(entries);
+
+			for (var entry : renameDetector.compute()) {
+				switch (entry.getChangeType()) {
+					case RENAME, COPY -> renames.put(entry.getNewPath(), entry.getOldPath());
+					default -> {
+						// Not a rename.
+					}
+				}
+			}
+		}
+
+		return renames;
+	}
+
+	private static boolean hasAdditionsAndDeletions(List<DiffEntry> entries) {
+		boolean additions = false;
+		boolean deletions = false;
+
+		for (var entry : entries) {
+			switch (entry.getChangeType()) {
+				case ADD -> additions = true;
+				case DELETE -> deletions = true;
+			}
+
+			if (additions && deletions) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static Set<String> union(Set<String> a, Set<String> b) {
+		var union = new HashSet<>(a);
+		union.addAll(b);
+		return union;
+	}
+
+	private static int getYear(RevWalk revWalk, RevCommit commit) throws IOException {
+		revWalk.parseBody(commit);
+		int year = GitUtils.getCommitYear(commit);
+		commit.disposeBody();
+		return year;
+	}
+
+	/**
+	 * Represents the paths a commit is walked for.
+	 * <p>
+	 * Instances are shared along the history as long as no path gets renamed or added, so they are never mutated,
+	 * and the filter matching their paths is only built once.
+	 */
+	private static final class Tracking {
+		/**
+		 * The tracked paths of the commit, mapped to the registered paths they got renamed into.
+		 */
+		final Map<String, Set<String>> names;
+		private @Nullable TreeFilter filter;
+
+		Tracking(Map<String, Set<String>> names) {
+			this.names = names;
+		}
+
+		/**
+		 * {@return the filter of the tree walks which only matches the differences of the tracked paths}
+		 */
+		TreeFilter getFilter() {
+			if (this.filter == null) {
+				this.filter = AndTreeFilter.create(PathFilterGroup.createFromStrings(this.names.keySet()), TreeFilter.ANY_DIFF);
+			}
+
+			return this.filter;
+		}
+
+		Tracking merge(Tracking other) {
+			var merged = new HashMap<>(this.names);
+
+			other.names.forEach((name, followed) -> merged.merge(name, followed, GitCreationIndex::union));
+
+			return new Tracking(merged);
+		}
+	}
+
+	/**
+	 * Represents the step of the walk at a given commit, which finds where each tracked path comes from in its parents.
+	 */
+	private static final class Step {
+		private final RevWalk revWalk;
+		private final RevCommit commit;
+		private int year = ABSENT;
+		final @Nullable Tracking[] parentTrackings;
+
+		Step(RevWalk revWalk, RevCommit commit) {
+			this.revWalk = revWalk;
+			this.commit = commit;
+			this.parentTrackings = new Tracking[commit.getParentCount()];
+		}
+
+		void create(Map<String, Integer> years, Set<String> created) throws IOException {
+			if (this.year == ABSENT) {
+				this.year = getYear(this.revWalk, this.commit);
+			}
+
+			int year = this.year;
+			created.forEach(path -> years.merge(path, year, Math::min));
+		}
+
+		void follow(TreeWalk treeWalk, RenameDetector renameDetector, Tracking tracking, Map<String, Integer> years)
+				throws IOException {
+			int parentCount = this.commit.getParentCount();
+			var filter = tracking.getFilter();
+			var changes = new ArrayList<Map<String, DiffEntry.ChangeType>>(parentCount);
+
+			for (int i = 0; i < parentCount; i++) {
+				RevCommit parent = this.commit.getParent(i);
+				this.revWalk.parseHeaders(parent);
+
+				treeWalk.reset(parent.getTree(), this.commit.getTree());
+				treeWalk.setFilter(filter);
+
+				var parentChanges = new HashMap<String, DiffEntry.ChangeType>();
+
+				for (var entry : DiffEntry.scan(treeWalk)) {
+					if (tracking.names.containsKey(entry.getNewPath())) {
+						parentChanges.put(entry.getNewPath(), entry.getChangeType());
+					}
+				}
+
+				if (parentChanges.isEmpty()) {
+					// Every tracked path is the same as in this parent, only its history matters.
+					this.parentTrackings[i] = tracking;
+					return;
+				}
+
+				changes.add(parentChanges);
+			}
+
+			var parentNames = new ArrayList<Map<String, Set<String>>>(parentCount);
+			var renames = new ArrayList<@Nullable Map<String, String>>(parentCount);
+
+			for (int i = 0; i < parentCount; i++) {
+				parentNames.add(new HashMap<>());
+				renames.add(null);
+			}
+
+			for (var tracked : tracking.names.entrySet()) {
+				String name = tracked.getKey();
+				int sameParent = -1;
+
+				for (int i = 0; i < parentCount; i++) {
+					if (!changes.get(i).containsKey(name)) {
+						sameParent = i;
+						break;
+					}
+				}
+
+				if (sameParent != -1) {
+					parentNames.get(sameParent).put(name, tracked.getValue());
+					continue;
+				}
+
+				for (int i = 0; i < parentCount; i++) {
+					if (changes.get(i).get(name) != DiffEntry.ChangeType.ADD) {
+						parentNames.get(i).put(name, tracked.getValue());
+						continue;
+					}
+
+					String previousName = null;
+
+					if (renameDetector.getRenameLimit() > 0) {
+						var parentRenames = renames.get(i);
+
+						if (parentRenames == null) {
+							parentRenames = detectRenames(treeWalk, renameDetector, this.commit.getParent(i), this.commit);
+							renames.set(i, parentRenames);
+						}
+
+						previousName = parentRenames.get(name);
+					}
+
+					if (previousName != null) {
+						parentNames.get(i).merge(previousName, tracked.getValue(), GitCreationIndex::union);
+					} else {
+						this.create(years, tracked.getValue());
+					}
+				}
+			}
+
+			for (int i = 0; i < parentCount; i++) {
+				if (!parentNames.get(i).isEmpty()) {
+					this.parentTrackings[i] = new Tracking(parentNames.get(i));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Loads the index persisted in the given file.
+	 * <p>
+	 * A missing or unreadable file leaves the index empty, as it will be rebuilt from the history.
+	 *
+	 * @param file the file to load the index from
+	 */
+	public synchronized void load(Path file) {
+		var content = GitIndexFile.read(file, FORMAT_VERSION);
+
+		if (content != null) {
+			this.years.putAll(content.years());
+			this.indexedHead = content.commit();
+		}
+	}
+
+	/**
+	 * Persists this index into the given file, if it got modified since it has been loaded.
+	 *
+	 * @param file the file to save the index to
+	 * @throws IOException if the file could not be written
+	 */
+	public synchronized void save(Path file) throws IOException {
+		if (!this.modified || this.indexedHead == null) {
+			return;
+		}
+
+		GitIndexFile.write(file, FORMAT_VERSION, this.indexedHead, this.years);
+		this.modified = false;
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.impl.git;
+
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Represents a backend which reads the Git history to find the year in which paths got last committed.
+ *
+ * @author LambdAurora
+ * @version 4.1.0
+ * @since 4.1.0
+ * @see dev.yumi.gradle.licenser.api.rule.LicenseYearBackend
+ */
+@ApiStatus.Internal
+@FunctionalInterface
+public interface GitHistoryBackend {
+	/**
+	 * Walks the history from the given commit once to find the year of the latest commit of each of the given paths.
+	 *
+	 * @param reader the object reader to read the history with
+	 * @param start the commit to start the walk from
+	 * @param stop the commit at which the walk stops, along with its ancestors, or {@code null} to walk the whole history
+	 * @param paths the paths to look for, relative to the repository root
+	 * @return the year of the latest commit of each path, or {@link GitHistoryIndex#UNTRACKED} if the path
+	 * has not been committed in the walked commits
+	 * @throws IOException if the history could not be read
+	 */
+	Map<String, Integer> walk(ObjectReader reader, AnyObjectId start, @Nullable AnyObjectId stop, Collection<String> paths)
+			throws IOException;
+}
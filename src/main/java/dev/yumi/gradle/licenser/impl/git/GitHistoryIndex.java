@@ -0,0 +1,358 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.impl.git;
+
+import dev.yumi.gradle.licenser.util.GitUtils;
+import org.eclipse.jgit.internal.storage.commitgraph.CommitGraph;
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.EmptyTreeIterator;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.AndTreeFilter;
+import org.eclipse.jgit.treewalk.filter.PathFilterGroup;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Represents an index of the years in which paths of a repository got last committed.
+ * <p>
+ * Instead of walking the history once for each path, the index walks the commit graph once for every registered path,
+ * and stops as soon as the latest commit of each of them has been found.
+ * <p>
+ * The history is walked by a {@linkplain GitHistoryBackend backend}, by default JGit,
+ * whose walks can skip most commits without diffing their trees using the changed-path Bloom filters
+ * of a {@linkplain GitCommitGraph commit-graph}.
+ * <p>
+ * The index can be persisted along with the commit it has been computed at,
+ * which allows later builds to only walk the commits that got added since then.
+ *
+ * @author LambdAurora
+ * @version 4.1.0
+ * @since 4.1.0
+ */
+@ApiStatus.Internal
+public final class GitHistoryIndex {
+	/**
+	 * The year associated with paths which have never been committed.
+	 */
+	public static final int UNTRACKED = -1;
+
+	private static final int FORMAT_VERSION = 1;
+
+	private final Map<String, Integer> years = new HashMap<>();
+	private final Set<String> pending = new HashSet<>();
+	private @Nullable ObjectId indexedHead;
+	private boolean modified = false;
+	private GitHistoryBackend backend = JGitHistoryBackend.DEFAULT;
+
+	/**
+	 * Sets the backend used to walk the history.
+	 *
+	 * @param backend the history backend
+	 */
+	public synchronized void useBackend(GitHistoryBackend backend) {
+		this.backend = backend;
+	}
+
+	/**
+	 * Registers paths to index.
+	 * <p>
+	 * The paths are only indexed once a year is requested for any of them.
+	 *
+	 * @param paths the paths to index, relative to the repository root
+	 */
+	public synchronized void register(Collection<String> paths) {
+		this.pending.addAll(paths);
+	}
+
+	/**
+	 * Gets the year in which the given path got last committed.
+	 * <p>
+	 * If the path has not been indexed yet, every pending path is indexed in the same walk.
+	 *
+	 * @param reader the object reader to read the history with
+	 * @param head the commit to start walking the history from, or {@code null} if there is no commit yet
+	 * @param path the path, relative to the repository root
+	 * @return the year of the latest commit of the path, {@link #UNTRACKED} if the path has never been committed,
+	 * or {@code null} if the path has not been registered
+	 * @throws IOException if the history could not be read
+	 */
+	public synchronized @Nullable Integer getYear(ObjectReader reader, @Nullable AnyObjectId head, String path)
+			throws IOException {
+		if (head != null && !head.equals(this.indexedHead)) {
+			this.catchUp(reader, head);
+		}
+
+		if (this.pending.contains(path)) {
+			if (head == null) {
+				this.pending.forEach(pendingPath -> this.years.put(pendingPath, UNTRACKED));
+			} else {
+				var missing = this.pending.stream().filter(pendingPath -> !this.years.containsKey(pendingPath)).toList();
+
+				if (!missing.isEmpty()) {
+					this.years.putAll(this.backend.walk(reader, head, null, missing));
+					this.modified = true;
+				}
+			}
+
+			this.pending.clear();
+		}
+
+		return this.years.get(path);
+	}
+
+	/**
+	 * Brings the already indexed years up to date with the given head commit.
+	 * <p>
+	 * If the previously indexed commit is an ancestor of the new head, only the commits in between are walked,
+	 * otherwise the history has been rewritten and the index is discarded.
+	 *
+	 * @param reader the object reader to read the history with
+	 * @param head the new head commit
+	 * @throws IOException if the history could not be read
+	 */
+	private void catchUp(ObjectReader reader, AnyObjectId head) throws IOException {
+		if (this.indexedHead != null && !this.years.isEmpty() && isAncestor(reader, this.indexedHead, head)) {
+			var updated = this.backend.walk(reader, head, this.indexedHead, this.years.keySet());
+
+			updated.forEach((path, year) -> {
+				if (year != UNTRACKED) {
+					this.years.merge(path, year, Math::max);
+				}
+			});
+		} else {
+			this.years.clear();
+		}
+
+		this.indexedHead = head.copy();
+		this.modified = true;
+	}
+
+	private static boolean isAncestor(ObjectReader reader, AnyObjectId ancestor, AnyObjectId head) {
+		try (var revWalk = new RevWalk(reader)) {
+			return revWalk.isMergedInto(revWalk.parseCommit(ancestor), revWalk.parseCommit(head));
+		} catch (IOException e) {
+			// The previously indexed commit may not exist anymore, for example after a rebase and a garbage collection.
+			return false;
+		}
+	}
+
+	/**
+	 * Loads the index persisted in the given file.
+	 * <p>
+	 * A missing or unreadable file leaves the index empty, as it will be rebuilt from the history.
+	 *
+	 * @param file the file to load the index from
+	 */
+	public synchronized void load(Path file) {
+		var content = GitIndexFile.read(file, FORMAT_VERSION);
+
+		if (content != null) {
+			this.years.putAll(content.years());
+			this.indexedHead = content.commit();
+		}
+	}
+
+	/**
+	 * Persists this index into the given file, if it got modified since it has been loaded.
+	 *
+	 * @param file the file to save the index to
+	 * @throws IOException if the file could not be written
+	 */
+	public synchronized void save(Path file) throws IOException {
+		if (!this.modified || this.indexedHead == null) {
+			return;
+		}
+
+		GitIndexFile.write(file, FORMAT_VERSION, this.indexedHead, this.years);
+		this.modified = false;
+	}
+
+	/**
+	 * Walks the history from the given commit once to find the year of the latest commit of each of the given paths.
+	 *
+	 * @param repository the repository
+	 * @param start the commit to start the walk from
+	 * @param paths the paths to look for, relative to the repository root
+	 * @return the year of the latest commit of each path, or {@link #UNTRACKED} if the path has never been committed
+	 * @throws IOException if the history could not be read
+	 */
+	public static Map<String, Integer> walk(Repository repository, AnyObjectId start, Collection<String> paths)
+			throws IOException {
+		try (var reader = repository.newObjectReader()) {
+			return walk(reader, start, null, paths);
+		}
+	}
+
+	/**
+	 * Walks the history from the given commit once to find the year of the latest commit of each of the given paths.
+	 *
+	 * @param reader the object reader to read the history with
+	 * @param start the commit to start the walk from
+	 * @param stop the commit at which the walk stops, along with its ancestors, or {@code null} to walk the whole history
+	 * @param paths the paths to look for, relative to the repository root
+	 * @return the year of the latest commit of each path, or {@link #UNTRACKED} if the path has not been committed
+	 * in the walked commits
+	 * @throws IOException if the history could not be read
+	 */
+	public static Map<String, Integer> walk(
+			ObjectReader reader, AnyObjectId start, @Nullable AnyObjectId stop, Collection<String> paths
+	) throws IOException {
+		return walk(reader, start, stop, paths, null);
+	}
+
+	/**
+	 * Walks the history from the given commit once to find the year of the latest commit of each of the given paths.
+	 *
+	 * @param reader the object reader to read the history with
+	 * @param start the commit to start the walk from
+	 * @param stop the commit at which the walk stops, along with its ancestors, or {@code null} to walk the whole history
+	 * @param paths the paths to look for, relative to the repository root
+	 * @param commitGraph the commit-graph whose changed-path Bloom filters are used to skip commits,
+	 * or {@code null}
+	 * @return the year of the latest commit of each path, or {@link #UNTRACKED} if the path has not been committed
+	 * in the walked commits
+	 * @throws IOException if the history could not be read
+	 */
+	public static Map<String, Integer> walk(
+			ObjectReader reader, AnyObjectId start, @Nullable AnyObjectId stop, Collection<String> paths,
+			@Nullable CommitGraph commitGraph
+	) throws IOException {
+		var result = new HashMap<String, Integer>();
+		var remaining = new HashSet<>(paths);
+
+		if (!remaining.isEmpty()) {
+			try (
+					var revWalk = new RevWalk(reader);
+					var treeWalk = new TreeWalk(reader)
+			) {
+				revWalk.setRetainBody(false);
+				revWalk.markStart(revWalk.parseCommit(start));
+
+				if (stop != null) {
+					revWalk.markUninteresting(revWalk.parseCommit(stop));
+				}
+				treeWalk.setRecursive(true);
+
+				boolean useBloomFilters = commitGraph != null;
+				int filterSize = remaining.size();
+				treeWalk.setFilter(createFilter(remaining));
+				List<byte[]> probes = useBloomFilters ? GitCommitGraph.createProbes(remaining) : List.of();
+
+				var touched = new ArrayList<String>();
+				RevCommit commit;
+
+				while (!remaining.isEmpty() && (commit = revWalk.next()) != null) {
+					if (useBloomFilters && !GitCommitGraph.mayTouch(commitGraph, commit, probes)) {
+						continue;
+					}
+
+					collectTouchedPaths(revWalk, treeWalk, commit, remaining, touched);
+
+					if (!touched.isEmpty()) {
+						revWalk.parseBody(commit);
+						int year = GitUtils.getCommitYear(commit);
+						commit.disposeBody();
+
+						for (var path : touched) {
+							remaining.remove(path);
+							result.put(path, year);
+						}
+
+						touched.clear();
+
+						// Narrow down the tree filter once enough paths have been found,
+						// rebuilding it for every found path would cost more than it saves.
+						if (!remaining.isEmpty() && remaining.size() <= filterSize / 2) {
+							filterSize = remaining.size();
+							treeWalk.setFilter(createFilter(remaining));
+
+							if (useBloomFilters) {
+								probes = GitCommitGraph.createProbes(remaining);
+							}
+						}
+					}
+				}
+			}
+		}
+
+		for (var path : remaining) {
+			result.put(path, UNTRACKED);
+		}
+
+		return result;
+	}
+
+	private static TreeFilter createFilter(Collection<String> paths) {
+		return AndTreeFilter.create(PathFilterGroup.createFromStrings(paths), TreeFilter.ANY_DIFF);
+	}
+
+	/**
+	 * Collects the paths touched by the given commit.
+	 * <p>
+	 * For merge commits, only paths that differ from every parent are considered touched,
+	 * which mirrors the history simplification done by {@code git log -- <path>}.
+	 *
+	 * @param revWalk the revision walk
+	 * @param treeWalk the tree walk, whose filter is already set
+	 * @param commit the commit
+	 * @param wanted the paths to look for, or {@code null} to collect every touched path
+	 * @param touched the list to which touched paths are added
+	 * @throws IOException if the trees could not be read
+	 */
+	static void collectTouchedPaths(
+			RevWalk revWalk, TreeWalk treeWalk, RevCommit commit, @Nullable Set<String> wanted, List<String> touched
+	) throws IOException {
+		treeWalk.reset();
+		treeWalk.addTree(commit.getTree());
+
+		int parentCount = commit.getParentCount();
+
+		if (parentCount == 0) {
+			treeWalk.addTree(new EmptyTreeIterator());
+		} else {
+			for (int i = 0; i < parentCount; i++) {
+				RevCommit parent = commit.getParent(i);
+				revWalk.parseHeaders(parent);
+				treeWalk.addTree(parent.getTree());
+			}
+		}
+
+		while (treeWalk.next()) {
+			if (parentCount > 1 && isSameAsAnyParent(treeWalk)) {
+				continue;
+			}
+
+			String path = treeWalk.getPathString();
+
+			if (wanted == null || wanted.contains(path)) {
+				touched.add(path);
+			}
+		}
+	}
+
+	private static boolean isSameAsAnyParent(TreeWalk treeWalk) {
+		for (int i = 1; i < treeWalk.getTreeCount(); i++) {
+			if (treeWalk.getRawMode(0) == treeWalk.getRawMode(i) && treeWalk.idEqual(0, i)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.impl.git;
+
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.ObjectId;
+import org.jspecify.annotations.Nullable;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Provides the reading and writing of the files in which path-to-year indexes are persisted between builds.
+ * <p>
+ * Each file stores the commit the index has been computed at, followed by every path and its year.
+ *
+ * @author LambdAurora
+ * @version 4.1.0
+ * @since 4.1.0
+ */
+final class GitIndexFile {
+	private GitIndexFile() {
+		throw new UnsupportedOperationException("GitIndexFile only contains static definitions.");
+	}
+
+	/**
+	 * Reads the index persisted in the given file.
+	 *
+	 * @param file the file to read
+	 * @param formatVersion the expected version of the format of the file
+	 * @return the read content, or {@code null} if the file is missing, unreadable, or of another format version
+	 */
+	static @Nullable Content read(Path file, int formatVersion) {
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+
+		try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != formatVersion) {
+				return null;
+			}
+
+			var commit = ObjectId.fromString(in.readUTF());
+			int size = in.readInt();
+			var years = new HashMap<String, Integer>(size);
+
+			for (int i = 0; i < size; i++) {
+				years.put(in.readUTF(), in.readInt());
+			}
+
+			return new Content(commit, years);
+		} catch (IOException | IllegalArgumentException e) {
+			// The file is corrupted, the index will be rebuilt.
+			return null;
+		}
+	}
+
+	/**
+	 * Writes the given index into the given file, replacing it atomically.
+	 *
+	 * @param file the file to write
+	 * @param formatVersion the version of the format of the file
+	 * @param commit the commit the index has been computed at
+	 * @param years the year of each path
+	 * @throws IOException if the file could not be written
+	 */
+	static void write(Path file, int formatVersion, AnyObjectId commit, Map<String, Integer> years) throws IOException {
+		Files.createDirectories(file.getParent());
+		// Unique so that concurrent worker processes never write to the same temporary file.
+		var tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+
+		try {
+			try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+				out.writeInt(formatVersion);
+				out.writeUTF(commit.name());
+				out.writeInt(years.size());
+
+				for (var entry : years.entrySet()) {
+					out.writeUTF(entry.getKey());
+					out.writeInt(entry.getValue());
+				}
+			}
+
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	/**
+	 * Represents the content of an index file.
+	 *
+	 * @param commit the commit the index has been computed at
+	 * @param years the year of each path
+	 */
+	record Content(ObjectId commit, Map<String, Integer> years) {}
+}
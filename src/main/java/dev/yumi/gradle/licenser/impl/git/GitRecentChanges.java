@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.impl.git;
+
+import dev.yumi.gradle.licenser.util.GitUtils;
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Represents the paths touched by the most recent commits of a repository.
+ * <p>
+ * Knowing whether a file got modified after the year already in its header only requires the commits
+ * since the start of the following year.
+ * The history is walked from {@code HEAD} only as far back as the earliest year requested so far,
+ * and the walk is resumed if an earlier year is requested later.
+ *
+ * @author LambdAurora
+ * @version 4.1.0
+ * @since 4.1.0
+ */
+@ApiStatus.Internal
+public final class GitRecentChanges implements AutoCloseable {
+	/**
+	 * Commits are ordered by committer time while years come from the author time in the time zone of the author,
+	 * so the walk goes a bit further than the start of the year.
+	 */
+	private static final long MARGIN_SECONDS = ChronoUnit.DAYS.getDuration().getSeconds() * 2;
+
+	private final Map<String, Integer> years = new HashMap<>();
+	private final ArrayList<String> touched = new ArrayList<>();
+	private @Nullable ObjectReader reader;
+	private @Nullable RevWalk revWalk;
+	private @Nullable TreeWalk treeWalk;
+	private @Nullable RevCommit pendingCommit;
+	private long walkedUntil = Long.MAX_VALUE;
+	private boolean exhausted = false;
+
+	/**
+	 * Gets the year in which the given path got last committed, if it got committed since the start of the given year.
+	 *
+	 * @param repository the repository
+	 * @param head the commit to start walking the history from
+	 * @param path the path, relative to the repository root
+	 * @param sinceYear the year since the start of which commits are looked at
+	 * @return the year of the latest commit of the path, or {@code null} if the path hasn't been committed since
+	 * the start of the given year
+	 * @throws IOException if the history could not be read
+	 */
+	public synchronized @Nullable Integer getYearSince(
+			Repository repository, AnyObjectId head, String path, int sinceYear
+	) throws IOException {
+		long bound = LocalDate.of(sinceYear, 1, 1).atStartOfDay(ZoneOffset.UTC).toEpochSecond() - MARGIN_SECONDS;
+		this.walkUntil(repository, head, bound);
+
+		Integer year = this.years.get(path);
+		return year != null && year >= sinceYear ? year : null;
+	}
+
+	private void walkUntil(Repository repository, AnyObjectId head, long bound) throws IOException {
+		if (this.exhausted || this.walkedUntil <= bound) {
+			return;
+		}
+
+		if (this.revWalk == null) {
+			this.reader = repository.newObjectReader();
+			this.revWalk = new RevWalk(this.reader);
+			this.revWalk.setRetainBody(false);
+			this.revWalk.markStart(this.revWalk.parseCommit(head));
+			this.treeWalk = new TreeWalk(this.reader);
+			this.treeWalk.setRecursive(true);
+			this.treeWalk.setFilter(TreeFilter.ANY_DIFF);
+		}
+
+		RevCommit commit = this.pendingCommit;
+		this.pendingCommit = null;
+
+		if (commit == null) {
+			commit = this.revWalk.next();
+		}
+
+		while (commit != null) {
+			if (commit.getCommitTime() < bound) {
+				// Kept for when an earlier year is requested.
+				this.pendingCommit = commit;
+				this.walkedUntil = bound;
+				return;
+			}
+
+			GitHistoryIndex.collectTouchedPaths(this.revWalk, this.treeWalk, commit, null, this.touched);
+
+			if (!this.touched.isEmpty()) {
+				this.revWalk.parseBody(commit);
+				int year = GitUtils.getCommitYear(commit);
+				commit.disposeBody();
+
+				for (var path : this.touched) {
+					this.years.merge(path, year, Math::max);
+				}
+
+				this.touched.clear();
+			}
+
+			commit = this.revWalk.next();
+		}
+
+		this.exhausted = true;
+	}
+
+	@Override
+	public synchronized void close() {
+		if (this.treeWalk != null) {
+			this.treeWalk.close();
+		}
+
+		if (this.revWalk != null) {
+			this.revWalk.close();
+		}
+
+		if (this.reader != null) {
+			this.reader.close();
+		}
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.impl.git;
+
+import dev.yumi.gradle.licenser.util.Utils;
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Calendar;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Represents the Git repositories opened to resolve the years of files, one per project root directory.
+ * <p>
+ * Each repository is opened once, and closed along with this object,
+ * at which point its indexes are persisted for the next builds.
+ *
+ * @author LambdAurora
+ * @version 4.1.0
+ * @since 4.1.0
+ * @see GitRepositoryService
+ */
+@ApiStatus.Internal
+public final class GitRepositories implements YearResolver, AutoCloseable {
+	private final Map<Path, Optional<SharedGitRepository>> repositories = new ConcurrentHashMap<>();
+
+	/**
+	 * Gets the shared Git repository of the given project root directory, opening it if needed.
+	 *
+	 * @param rootPath the root directory of the project
+	 * @return the shared repository, or {@code null} if the directory isn't a Git repository
+	 */
+	public @Nullable SharedGitRepository getRepository(Path rootPath) {
+		return this.repositories.computeIfAbsent(rootPath, path -> Optional.ofNullable(SharedGitRepository.open(path)))
+				.orElse(null);
+	}
+
+	/**
+	 * Registers files whose modification year may be requested,
+	 * their history will be indexed in a single walk once a year is first requested.
+	 *
+	 * @param rootPath the root directory of the project the files are in
+	 * @param options the options of the repository
+	 * @param files the files
+	 * @see #openRegistration(Path, RepositoryOptions)
+	 */
+	public void registerFiles(Path rootPath, RepositoryOptions options, Iterable<Path> files) {
+		try (var registration = this.openRegistration(rootPath, options)) {
+			registration.register(files);
+		}
+	}
+
+	/**
+	 * Opens a registration of files whose years may be requested, the lookups of years in the repository
+	 * wait until it is closed so that every file registered through it is indexed in a single walk.
+	 *
+	 * @param rootPath the root directory of the project the files are in
+	 * @param options the options of the repository
+	 * @return the registration, which must be closed
+	 * @see SharedGitRepository#configure(RepositoryOptions)
+	 */
+	public FileRegistration openRegistration(Path rootPath, RepositoryOptions options) {
+		var repository = this.getRepository(rootPath);
+
+		if (repository != null) {
+			repository.configure(options);
+			repository.openRegistration();
+		}
+
+		return new FileRegistration(repository);
+	}
+
+	@Override
+	public int getCreationYear(Path rootPath, Path path) throws IOException {
+		var repository = this.getRepository(rootPath);
+
+		if (repository == null) {
+			return Utils.getFileCreationYear(path);
+		}
+
+		return repository.getCreationYear(path);
+	}
+
+	@Override
+	public int getModificationYear(Path rootPath, Path path) {
+		var repository = this.getRepository(rootPath);
+
+		if (repository == null) {
+			return Calendar.getInstance().get(Calendar.YEAR);
+		}
+
+		return repository.getModificationYear(path);
+	}
+
+	@Override
+	public int getModificationYearSince(Path rootPath, Path path, int knownYear) {
+		var repository = this.getRepository(rootPath);
+
+		if (repository == null) {
+			return Math.max(knownYear, Calendar.getInstance().get(Calendar.YEAR));
+		}
+
+		return repository.getModificationYearSince(path, knownYear);
+	}
+
+	@Override
+	public void close() {
+		this.repositories.values().forEach(repository -> repository.ifPresent(SharedGitRepository::close));
+		this.repositories.clear();
+	}
+}
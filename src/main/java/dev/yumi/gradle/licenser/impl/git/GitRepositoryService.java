@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.impl.git;
+
+import org.gradle.api.invocation.Gradle;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Represents the build service which shares Git-related data between the license tasks and their workers of a build.
+ * <p>
+ * Each Git repository is opened once per build, and closed once the build is finished,
+ * at which point its indexes are persisted for the next builds.
+ *
+ * @author LambdAurora
+ * @version 4.1.0
+ * @since 4.1.0
+ */
+@ApiStatus.Internal
+public abstract class GitRepositoryService
+		implements BuildService<BuildServiceParameters.None>, YearResolver, AutoCloseable {
+	/**
+	 * The name under which this service is registered.
+	 */
+	public static final String NAME = "yumiGradleLicenserGit";
+
+	private final GitRepositories repositories = new GitRepositories();
+
+	/**
+	 * Registers this service to the given build if it isn't already registered.
+	 *
+	 * @param gradle the build
+	 * @return the provider of this service
+	 */
+	public static Provider<GitRepositoryService> register(Gradle gradle) {
+		return gradle.getSharedServices().registerIfAbsent(NAME, GitRepositoryService.class, spec -> {});
+	}
+
+	/**
+	 * Gets the shared Git repository of the given project root directory, opening it if needed.
+	 *
+	 * @param rootPath the root directory of the project
+	 * @return the shared repository, or {@code null} if the directory isn't a Git repository
+	 */
+	public @Nullable SharedGitRepository getRepository(Path rootPath) {
+		return this.repositories.getRepository(rootPath);
+	}
+
+	/**
+	 * Registers files whose modification year may be requested,
+	 * their history will be indexed in a single walk once a year is first requested.
+	 *
+	 * @param rootPath the root directory of the project the files are in
+	 * @param options the options of the repository
+	 * @param files the files
+	 * @see SharedGitRepository#configure(RepositoryOptions)
+	 */
+	public void registerFiles(Path rootPath, RepositoryOptions options, Iterable<Path> files) {
+		this.repositories.registerFiles(rootPath, options, files);
+	}
+
+	/**
+	 * Opens a registration of files whose years may be requested, the lookups of years in the repository
+	 * wait until it is closed so that every file registered through it is indexed in a single walk.
+	 *
+	 * @param rootPath the root directory of the project the files are in
+	 * @param options the options of the repository
+	 * @return the registration, which must be closed
+	 */
+	public FileRegistration openRegistration(Path rootPath, RepositoryOptions options) {
+		return this.repositories.openRegistration(rootPath, options);
+	}
+
+	@Override
+	public int getCreationYear(Path rootPath, Path path) throws IOException {
+		return this.repositories.getCreationYear(rootPath, path);
+	}
+
+	@Override
+	public int getModificationYear(Path rootPath, Path path) {
+		return this.repositories.getModificationYear(rootPath, path);
+	}
+
+	@Override
+	public int getModificationYearSince(Path rootPath, Path path, int knownYear) {
+		return this.repositories.getModificationYearSince(rootPath, path, knownYear);
+	}
+
+	@Override
+	public void close() {
+		this.repositories.close();
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.impl.git;
+
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.IndexDiff;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.treewalk.FileTreeIterator;
+import org.eclipse.jgit.treewalk.filter.PathFilterGroup;
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Represents the status of registered paths in the working tree of a repository.
+ * <p>
+ * Instead of diffing the whole working tree against {@code HEAD} for each path,
+ * the status of every registered path is computed at once with a single index diff restricted to those paths.
+ *
+ * @author LambdAurora
+ * @version 4.1.0
+ * @since 4.1.0
+ */
+@ApiStatus.Internal
+public final class GitWorkingTreeStatus {
+	private final Map<String, Boolean> dirty = new HashMap<>();
+	private final Set<String> pending = new HashSet<>();
+
+	/**
+	 * Registers paths whose status may be requested.
+	 * <p>
+	 * Registering an already known path discards its status, so a task execution always sees the current working tree.
+	 *
+	 * @param paths the paths, relative to the repository root
+	 */
+	public synchronized void register(Collection<String> paths) {
+		for (var path : paths) {
+			this.dirty.remove(path);
+			this.pending.add(path);
+		}
+	}
+
+	/**
+	 * Checks whether the given path differs from {@code HEAD} in the working tree or in the index,
+	 * or isn't tracked at all.
+	 * <p>
+	 * If the status of the path is not known yet, the status of every pending path is computed at once.
+	 *
+	 * @param repository the repository
+	 * @param path the path, relative to the repository root
+	 * @return {@code true} if the path is modified or untracked, {@code false} if it is unchanged,
+	 * or {@code null} if the path has not been registered
+	 * @throws IOException if the working tree or the index could not be read
+	 */
+	public synchronized @Nullable Boolean isDirty(Repository repository, String path) throws IOException {
+		if (this.pending.contains(path)) {
+			var modified = computeDirtyPaths(repository, this.pending);
+
+			for (var pendingPath : this.pending) {
+				this.dirty.put(pendingPath, modified.contains(pendingPath));
+			}
+
+			this.pending.clear();
+		}
+
+		return this.dirty.get(path);
+	}
+
+	/**
+	 * Computes which of the given paths are modified or untracked using a single index diff.
+	 *
+	 * @param repository the repository
+	 * @param paths the paths to check, relative to the repository root
+	 * @return the modified or untracked paths
+	 * @throws IOException if the working tree or the index could not be read
+	 */
+	public static Set<String> computeDirtyPaths(Repository repository, Collection<String> paths) throws IOException {
+		if (paths.isEmpty()) {
+			return Set.of();
+		}
+
+		var diff = new IndexDiff(repository, Constants.HEAD, new FileTreeIterator(repository));
+		diff.setFilter(PathFilterGroup.createFromStrings(paths));
+		diff.diff();
+
+		var result = new HashSet<String>();
+		result.addAll(diff.getAdded());
+		result.addAll(diff.getChanged());
+		result.addAll(diff.getModified());
+		result.addAll(diff.getUntracked());
+		result.addAll(diff.getConflicting());
+		return result;
+	}
+}
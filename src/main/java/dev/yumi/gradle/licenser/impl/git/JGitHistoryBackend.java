@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.impl.git;
+
+import org.eclipse.jgit.internal.storage.commitgraph.CommitGraph;
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Represents the history backend which walks the history in-process using JGit.
+ *
+ * @author LambdAurora
+ * @version 4.1.0
+ * @since 4.1.0
+ * @see GitHistoryIndex#walk(ObjectReader, AnyObjectId, AnyObjectId, Collection, CommitGraph)
+ */
+@ApiStatus.Internal
+public final class JGitHistoryBackend implements GitHistoryBackend {
+	/**
+	 * The JGit history backend which doesn't use any commit-graph.
+	 */
+	public static final JGitHistoryBackend DEFAULT = new JGitHistoryBackend(null);
+
+	private final @Nullable GitCommitGraph commitGraph;
+
+	/**
+	 * Creates a JGit history backend.
+	 *
+	 * @param commitGraph the commit-graph whose changed-path Bloom filters are used to skip commits, or {@code null}
+	 */
+	public JGitHistoryBackend(@Nullable GitCommitGraph commitGraph) {
+		this.commitGraph = commitGraph;
+	}
+
+	@Override
+	public Map<String, Integer> walk(
+			ObjectReader reader, AnyObjectId start, @Nullable AnyObjectId stop, Collection<String> paths
+	) throws IOException {
+		CommitGraph graph = this.commitGraph != null ? this.commitGraph.get(reader, start) : null;
+		return GitHistoryIndex.walk(reader, start, stop, paths, graph);
+	}
+}
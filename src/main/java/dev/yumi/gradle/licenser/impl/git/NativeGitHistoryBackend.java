@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.impl.git;
+
+import org.eclipse.jgit.lib.AnyObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Represents the history backend which streams the output of a single {@code git log} run of the local {@code git} binary.
+ * <p>
+ * The output lists every commit along with the paths it touched, it is read until every path has been found,
+ * at which point the process is stopped.
+ * Paths are separated by NUL characters, so that they are never quoted whatever characters they contain.
+ * If the {@code git} binary fails, the fallback backend is used instead.
+ *
+ * @author LambdAurora
+ * @version 4.1.0
+ * @since 4.1.0
+ */
+@ApiStatus.Internal
+public final class NativeGitHistoryBackend implements GitHistoryBackend {
+	private static final char COMMIT_MARKER = '\u0001';
+	private static @Nullable Boolean available;
+
+	private final Path workTree;
+	private final GitHistoryBackend fallback;
+
+	/**
+	 * Creates a native Git history backend.
+	 *
+	 * @param workTree the root of the working tree of the repository
+	 * @param fallback the backend to use if the {@code git} binary fails
+	 */
+	public NativeGitHistoryBackend(Path workTree, GitHistoryBackend fallback) {
+		this.workTree = workTree;
+		this.fallback = fallback;
+	}
+
+	/**
+	 * {@return {@code true} if a {@code git} binary can be run, or {@code false} otherwise}
+	 */
+	public static synchronized boolean isAvailable() {
+		if (available == null) {
+			try {
+				Process process = new ProcessBuilder("git", "--version").redirectErrorStream(true).start();
+				process.getInputStream().transferTo(OutputStream.nullOutputStream());
+				available = process.waitFor() == 0;
+			} catch (IOException e) {
+				available = false;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+
+		return available;
+	}
+
+	@Override
+	public Map<String, Integer> walk(
+			ObjectReader reader, AnyObjectId start, @Nullable AnyObjectId stop, Collection<String> paths
+	) throws IOException {
+		try {
+			return this.walkNative(start, stop, paths);
+		} catch (IOException e) {
+			return this.fallback.walk(reader, start, stop, paths);
+		}
+	}
+
+	private Map<String, Integer> walkNative(AnyObjectId start, @Nullable AnyObjectId stop, Collection<String> paths)
+			throws IOException {
+		var result = new HashMap<String, Integer>();
+		var remaining = new HashSet<>(paths);
+
+		if (!remaining.isEmpty()) {
+			var command = new ArrayList<>(List.of(
+					// The configuration of the user must not change the output.
+					"git", "-c", "log.showSignature=false", "-c", "log.showRoot=true",
+					"log", "-z", "--no-color", "--no-renames", "--cc", "--name-only",
+					// The year is formatted in the time zone of the author, like the JGit backend does.
+					"--format=%x01%ad", "--date=format:%Y",
+					start.name()
+			));
+
+			if (stop != null) {
+				command.add("^" + stop.name());
+			}
+
+			command.add("--");
+
+			Process process = new ProcessBuilder(command)
+					.directory(this.workTree.toFile())
+					.redirectError(ProcessBuilder.Redirect.DISCARD)
+					.start();
+
+			try (var in = new BufferedInputStream(process.getInputStream())) {
+				var buffer = new ByteArrayOutputStream();
+				int year = GitHistoryIndex.UNTRACKED;
+				boolean afterCommit = false;
+				String token;
+
+				// Each commit is written as its marker and year, followed by a line feed then the paths it touched.
+				while (!remaining.isEmpty() && (token = readToken(in, buffer)) != null) {
+					if (afterCommit && !token.isEmpty() && token.charAt(0) == '\n') {
+						token = token.substring(1);
+					}
+
+					afterCommit = !token.isEmpty() && token.charAt(0) == COMMIT_MARKER;
+
+					if (afterCommit) {
+						year = Integer.parseInt(token.substring(1).trim());
+					} else if (remaining.remove(token)) {
+						result.put(token, year);
+					}
+				}
+			} catch (NumberFormatException e) {
+				process.destroy();
+				throw new IOException("Could not parse the output of git log.", e);
+			}
+
+			if (remaining.isEmpty()) {
+				// Every path has been found, the rest of the history isn't needed.
+				process.destroy();
+			} else if (waitFor(process) != 0) {
+				throw new IOException("git log exited with code " + process.exitValue() + ".");
+			}
+		}
+
+		for (var path : remaining) {
+			result.put(path, GitHistoryIndex.UNTRACKED);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Reads the next token terminated by a NUL character.
+	 *
+	 * @param in the input stream to read from
+	 * @param buffer the buffer to read the token into
+	 * @return the token, or {@code null} if the end of the stream has been reached
+	 * @throws IOException if the stream could not be read
+	 */
+	private static @Nullable String readToken(InputStream in, ByteArrayOutputStream buffer) throws IOException {
+		buffer.reset();
+		int b;
+
+		while ((b = in.read()) != -1 && b != 0) {
+			buffer.write(b);
+		}
+
+		if (b == -1 && buffer.size() == 0) {
+			return null;
+		}
+
+		return buffer.toString(StandardCharsets.UTF_8);
+	}
+
+	private static int waitFor(Process process) throws IOException {
+		try {
+			return process.waitFor();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			process.destroy();
+			throw new IOException("Interrupted while waiting for git log.", e);
+		}
+	}
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.impl.git;
+
+import dev.yumi.gradle.licenser.api.rule.LicenseYearBackend;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.nio.file.Path;
+
+/**
+ * Represents the options of a shared Git repository, given by the tasks which register files.
+ *
+ * @param cacheDirectory the directory in which the indexes of the repository are kept between builds
+ * @param renameLimit the maximum number of files compared to detect renames in a single commit
+ * when resolving creation years, or {@code 0} to disable rename detection
+ * @param commitGraph {@code true} if history walks should use the changed-path Bloom filters of a commit-graph,
+ * or {@code false} otherwise
+ * @param backend the backend used to read the history
+ * @author LambdAurora
+ * @version 4.1.0
+ * @since 4.1.0
+ */
+@ApiStatus.Internal
+public record RepositoryOptions(
+		Path cacheDirectory, int renameLimit, boolean commitGraph, LicenseYearBackend backend
+) {
+}
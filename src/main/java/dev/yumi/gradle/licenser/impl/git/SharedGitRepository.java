@@ -0,0 +1,424 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.impl.git;
+
+import dev.yumi.gradle.licenser.api.rule.LicenseYearBackend;
+import dev.yumi.gradle.licenser.util.GitUtils;
+import dev.yumi.gradle.licenser.util.MemoizingIntSupplier;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.diff.DiffConfig;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.eclipse.jgit.treewalk.CanonicalTreeParser;
+import org.gradle.api.GradleException;
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Represents a Git repository opened once and shared by every task and worker of a build.
+ * <p>
+ * {@link ObjectReader} instances are not thread-safe, so they are pooled to be reused across workers,
+ * while {@code HEAD} is resolved once when the repository is opened.
+ *
+ * @author LambdAurora
+ * @version 4.1.0
+ * @since 4.1.0
+ */
+@ApiStatus.Internal
+public final class SharedGitRepository implements AutoCloseable {
+	private static final String HISTORY_INDEX_FILE_NAME = "git_history_index.bin";
+	private static final String CREATION_INDEX_FILE_NAME = "git_creation_index.bin";
+	private static final String COMMIT_GRAPH_FILE_NAME = "git_commit_graph.bin";
+
+	private final Git git;
+	private final Path repoRoot;
+	private final @Nullable ObjectId head;
+	private final @Nullable ObjectId headTree;
+	private final Queue<ObjectReader> readers = new ConcurrentLinkedQueue<>();
+	private final GitHistoryIndex historyIndex = new GitHistoryIndex();
+	private final GitWorkingTreeStatus workingTreeStatus = new GitWorkingTreeStatus();
+	private final GitCreationIndex creationIndex = new GitCreationIndex();
+	private final GitRecentChanges recentChanges = new GitRecentChanges();
+	private final MemoizingIntSupplier projectModificationYear
+			= new MemoizingIntSupplier(this::computeProjectModificationYear);
+	private final Map<Path, MemoizingIntSupplier> directoryModificationYears = new ConcurrentHashMap<>();
+	private final Object registrationLock = new Object();
+	private int openRegistrations = 0;
+	private @Nullable Path cacheDirectory;
+	private int renameLimit = GitCreationIndex.DEFAULT_RENAME_LIMIT;
+
+	private SharedGitRepository(Git git) throws IOException {
+		this.git = git;
+		this.repoRoot = GitUtils.getRepoRoot(git.getRepository());
+		this.head = git.getRepository().resolve(Constants.HEAD);
+
+		if (this.head != null) {
+			try (var walk = new RevWalk(git.getRepository())) {
+				this.headTree = walk.parseCommit(this.head).getTree().getId();
+			}
+		} else {
+			this.headTree = null;
+		}
+	}
+
+	/**
+	 * Opens the Git repository of the given project root directory.
+	 * <p>
+	 * The project root directory may be any directory of the repository, like in a monorepo.
+	 *
+	 * @param rootPath the root directory of the project
+	 * @return the opened repository, or {@code null} if the directory isn't in a Git repository
+	 */
+	public static @Nullable SharedGitRepository open(Path rootPath) {
+		Git git;
+
+		try {
+			File gitDir = new FileRepositoryBuilder().findGitDir(rootPath.toAbsolutePath().toFile()).getGitDir();
+
+			if (gitDir == null) {
+				return null;
+			}
+
+			git = Git.open(gitDir);
+		} catch (IOException e) {
+			return null;
+		}
+
+		try {
+			return new SharedGitRepository(git);
+		} catch (IOException e) {
+			git.close();
+			return null;
+		}
+	}
+
+	/**
+	 * {@return the underlying repository}
+	 */
+	public Repository getRepository() {
+		return this.git.getRepository();
+	}
+
+	/**
+	 * {@return the commit {@code HEAD} pointed to when this repository got opened, or {@code null} if there is no commit yet}
+	 */
+	public @Nullable ObjectId getHead() {
+		return this.head;
+	}
+
+	/**
+	 * Converts the given path into a path relative to the root of this repository, in the form used by Git.
+	 *
+	 * @param path the path
+	 * @return the path relative to the root of this repository
+	 */
+	public String relativize(Path path) {
+		return GitUtils.getStandardizedPath(this.repoRoot.relativize(path.toAbsolutePath()));
+	}
+
+	/**
+	 * Borrows an object reader from the pool, it must be given back using {@link #releaseReader(ObjectReader)}.
+	 *
+	 * @return an object reader
+	 */
+	public ObjectReader acquireReader() {
+		ObjectReader reader = this.readers.poll();
+		return reader != null ? reader : this.getRepository().newObjectReader();
+	}
+
+	/**
+	 * Gives back an object reader to the pool.
+	 *
+	 * @param reader the object reader
+	 */
+	public void releaseReader(ObjectReader reader) {
+		this.readers.offer(reader);
+	}
+
+	/**
+	 * Configures this repository, and loads the indexes previously persisted in the cache directory if there are any.
+	 * <p>
+	 * Only the first configuration is used, as the indexes are shared by every task of the build.
+	 *
+	 * @param options the options of this repository
+	 */
+	public synchronized void configure(RepositoryOptions options) {
+		if (this.cacheDirectory == null) {
+			this.cacheDirectory = options.cacheDirectory();
+			this.renameLimit = options.renameLimit();
+			this.historyIndex.load(this.cacheDirectory.resolve(HISTORY_INDEX_FILE_NAME));
+			this.creationIndex.load(this.cacheDirectory.resolve(CREATION_INDEX_FILE_NAME));
+
+			GitHistoryBackend backend = JGitHistoryBackend.DEFAULT;
+
+			if (options.commitGraph()) {
+				backend = new JGitHistoryBackend(
+						new GitCommitGraph(this.getRepository(), this.cacheDirectory.resolve(COMMIT_GRAPH_FILE_NAME))
+				);
+			}
+
+			if (options.backend() == LicenseYearBackend.NATIVE_GIT && NativeGitHistoryBackend.isAvailable()) {
+				backend = new NativeGitHistoryBackend(this.repoRoot, backend);
+			}
+
+			this.historyIndex.useBackend(backend);
+		}
+	}
+
+	/**
+	 * Registers files whose modification year may be requested.
+	 *
+	 * @param paths the paths of the files, relative to the root of this repository
+	 * @see GitHistoryIndex#register(Collection)
+	 * @see GitWorkingTreeStatus#register(Collection)
+	 * @see GitCreationIndex#register(Collection)
+	 */
+	public void registerFiles(Collection<String> paths) {
+		this.historyIndex.register(paths);
+		this.workingTreeStatus.register(paths);
+		this.creationIndex.register(paths);
+	}
+
+	/**
+	 * Opens a registration of files, the lookups of years wait until every open registration is closed.
+	 *
+	 * @see FileRegistration
+	 */
+	void openRegistration() {
+		synchronized (this.registrationLock) {
+			this.openRegistrations++;
+		}
+	}
+
+	/**
+	 * Closes a registration of files previously opened with {@link #openRegistration()}.
+	 */
+	void closeRegistration() {
+		synchronized (this.registrationLock) {
+			this.openRegistrations--;
+			this.registrationLock.notifyAll();
+		}
+	}
+
+	private void awaitRegistrations() {
+		synchronized (this.registrationLock) {
+			while (this.openRegistrations > 0) {
+				try {
+					this.registrationLock.wait();
+				} catch (InterruptedException e) {
+					// The year is looked up right away, the files registered later will be indexed in another walk.
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets the latest modified year of the given path.
+	 * <p>
+	 * Registered paths are looked up in the working tree status and the history index,
+	 * other paths are directly queried from Git.
+	 * <p>
+	 * The year of a project root directory, which is used by
+	 * {@link dev.yumi.gradle.licenser.api.rule.LicenseYearSelectionMode#PROJECT},
+	 * is only computed once and shared by every file, whether it is the repository root or one of its directories.
+	 *
+	 * @param path the path
+	 * @return the latest modified year
+	 */
+	public int getModificationYear(Path path) {
+		Path absolutePath = path.toAbsolutePath();
+
+		if (absolutePath.equals(this.repoRoot)) {
+			return this.projectModificationYear.getAsInt();
+		}
+
+		var directoryYear = this.directoryModificationYears.get(absolutePath);
+
+		if (directoryYear != null) {
+			return directoryYear.getAsInt();
+		}
+
+		this.awaitRegistrations();
+		ObjectReader reader = this.acquireReader();
+
+		try {
+			Boolean dirty = this.workingTreeStatus.isDirty(this.getRepository(), this.relativize(path));
+
+			if (dirty == null) {
+				if (Files.isDirectory(absolutePath)) {
+					// Like the root directory of a project within a bigger repository, which is shared by every file.
+					return this.directoryModificationYears.computeIfAbsent(absolutePath, directory ->
+							new MemoizingIntSupplier(() -> this.computeModificationYear(directory))
+					).getAsInt();
+				}
+
+				return this.computeModificationYear(reader, path);
+			} else if (dirty) {
+				return Calendar.getInstance().get(Calendar.YEAR);
+			} else {
+				return this.getLatestCommitYear(reader, this.repoRoot.relativize(absolutePath));
+			}
+		} catch (IOException | GradleException e) {
+			return Calendar.getInstance().get(Calendar.YEAR);
+		} finally {
+			this.releaseReader(reader);
+		}
+	}
+
+	/**
+	 * Gets the latest modified year of the given path, knowing that it was already modified in the given year.
+	 * <p>
+	 * For registered paths, only the commits since the start of the year following the known year are looked at.
+	 *
+	 * @param path the path
+	 * @param knownYear the year in which the path is known to have been modified
+	 * @return the latest modified year if it is after the known year, or the known year otherwise
+	 * @see GitRecentChanges
+	 */
+	public int getModificationYearSince(Path path, int knownYear) {
+		int currentYear = Calendar.getInstance().get(Calendar.YEAR);
+
+		if (knownYear >= currentYear) {
+			return knownYear;
+		} else if (path.toAbsolutePath().equals(this.repoRoot)) {
+			return Math.max(knownYear, this.projectModificationYear.getAsInt());
+		}
+
+		this.awaitRegistrations();
+
+		try {
+			String relativePath = this.relativize(path);
+			Boolean dirty = this.workingTreeStatus.isDirty(this.getRepository(), relativePath);
+
+			if (dirty == null) {
+				return Math.max(knownYear, this.getModificationYear(path));
+			} else if (dirty || this.head == null) {
+				return currentYear;
+			}
+
+			Integer year = this.recentChanges.getYearSince(this.getRepository(), this.head, relativePath, knownYear + 1);
+			return year != null ? year : knownYear;
+		} catch (IOException | GradleException e) {
+			return currentYear;
+		}
+	}
+
+	/**
+	 * Gets the year in which the given path got created, following its renames in the history.
+	 *
+	 * @param path the path
+	 * @return the creation year, or the current year if the path has never been committed
+	 * @throws IOException if the creation year could not be read
+	 * @see GitCreationIndex
+	 */
+	public int getCreationYear(Path path) throws IOException {
+		this.awaitRegistrations();
+		ObjectReader reader = this.acquireReader();
+
+		try {
+			Integer year = this.creationIndex.getYear(
+					reader, this.getRepository().getConfig().get(DiffConfig.KEY), this.renameLimit,
+					this.head, this.relativize(path)
+			);
+
+			return year != null ? year : Calendar.getInstance().get(Calendar.YEAR);
+		} finally {
+			this.releaseReader(reader);
+		}
+	}
+
+	private int computeModificationYear(Path path) {
+		ObjectReader reader = this.acquireReader();
+
+		try {
+			return this.computeModificationYear(reader, path);
+		} catch (IOException | GradleException e) {
+			return Calendar.getInstance().get(Calendar.YEAR);
+		} finally {
+			this.releaseReader(reader);
+		}
+	}
+
+	private int computeModificationYear(ObjectReader reader, Path path) throws IOException {
+		CanonicalTreeParser headTreeParser = null;
+
+		if (this.headTree != null) {
+			headTreeParser = new CanonicalTreeParser(null, reader, this.headTree);
+		}
+
+		return GitUtils.getModificationYear(
+				this.git, headTreeParser, path,
+				(git, relativePath) -> this.getLatestCommitYear(reader, relativePath)
+		);
+	}
+
+	private int computeProjectModificationYear() {
+		if (this.head == null) {
+			return Calendar.getInstance().get(Calendar.YEAR);
+		}
+
+		// The whole repository is always last modified by the commit HEAD points to.
+		try (var walk = new RevWalk(this.getRepository())) {
+			return GitUtils.getCommitYear(walk.parseCommit(this.head));
+		} catch (IOException e) {
+			return Calendar.getInstance().get(Calendar.YEAR);
+		}
+	}
+
+	private int getLatestCommitYear(ObjectReader reader, Path relativePath) throws IOException {
+		Integer year = this.historyIndex.getYear(reader, this.head, GitUtils.getStandardizedPath(relativePath));
+
+		if (year == null) {
+			return GitUtils.getLatestCommitYear(this.git, relativePath);
+		} else if (year == GitHistoryIndex.UNTRACKED) {
+			return Calendar.getInstance().get(Calendar.YEAR);
+		} else {
+			return year;
+		}
+	}
+
+	@Override
+	public void close() {
+		this.recentChanges.close();
+
+		if (this.cacheDirectory != null) {
+			try {
+				this.historyIndex.save(this.cacheDirectory.resolve(HISTORY_INDEX_FILE_NAME));
+				this.creationIndex.save(this.cacheDirectory.resolve(CREATION_INDEX_FILE_NAME));
+			} catch (IOException e) {
+				// The indexes are only caches, they will be rebuilt by the next build.
+			}
+		}
+
+		ObjectReader reader;
+
+		while ((reader = this.readers.poll()) != null) {
+			reader.close();
+		}
+
+		this.git.close();
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.impl.git;
+
+import dev.yumi.gradle.licenser.util.GitUtils;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Represents a resolver of the years used to fill license headers.
+ *
+ * @author LambdAurora
+ * @version 4.1.0
+ * @since 4.1.0
+ */
+@ApiStatus.Internal
+public interface YearResolver {
+	/**
+	 * The year resolver which queries Git directly for every path.
+	 */
+	YearResolver DIRECT = new YearResolver() {
+		@Override
+		public int getCreationYear(Path rootPath, Path path) throws IOException {
+			return GitUtils.getCreationYear(rootPath, path);
+		}
+
+		@Override
+		public int getModificationYear(Path rootPath, Path path) {
+			return GitUtils.getModificationYear(rootPath, path);
+		}
+	};
+
+	/**
+	 * Gets the year in which the given path got created.
+	 *
+	 * @param rootPath the root directory of the project the path is in
+	 * @param path the path to check the creation year of
+	 * @return the creation year
+	 * @throws IOException if the creation year could not be read
+	 */
+	int getCreationYear(Path rootPath, Path path) throws IOException;
+
+	/**
+	 * Gets the latest modified year of the given path.
+	 *
+	 * @param rootPath the root directory of the project the path is in
+	 * @param path the path to check the latest modified year of
+	 * @return the latest modified year
+	 */
+	int getModificationYear(Path rootPath, Path path);
+
+	/**
+	 * Gets the latest modified year of the given path, knowing that it was already modified in the given year.
+	 *
+	 * @param rootPath the root directory of the project the path is in
+	 * @param path the path to check the latest modified year of
+	 * @param knownYear the year in which the path is known to have been modified
+	 * @return the latest modified year if it is after the known year, or the known year otherwise
+	 */
+	default int getModificationYearSince(Path rootPath, Path path, int knownYear) {
+		return Math.max(knownYear, this.getModificationYear(rootPath, path));
+	}
+}
@@ -0,0 +1,12 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+@NullMarked
+package dev.yumi.gradle.licenser.impl.git;
+
+import org.jspecify.annotations.NullMarked;
@@ -8,33 +8,52 @@
 
 package dev.yumi.gradle.licenser.task;
 
+import dev.yumi.gradle.licenser.YumiLicenserGradleExtension;
 import dev.yumi.gradle.licenser.YumiLicenserGradlePlugin;
+import dev.yumi.gradle.licenser.impl.AppliedFileStates;
+import dev.yumi.gradle.licenser.impl.FileProcessor;
+import dev.yumi.gradle.licenser.impl.git.FileRegistration;
 import dev.yumi.gradle.licenser.task.work.ApplyLicenseWorkAction;
 import dev.yumi.gradle.licenser.task.work.ApplyLicenseWorkAction.ApplyReportDetails;
 import dev.yumi.gradle.licenser.task.work.LicenseWorkAction.Report;
+import dev.yumi.gradle.licenser.task.work.ProjectYearWorkAction;
+import dev.yumi.gradle.licenser.task.work.WorkBatches;
+import dev.yumi.gradle.licenser.task.work.WorkConfigurationService;
+import dev.yumi.gradle.licenser.task.work.WorkReportService;
+import dev.yumi.gradle.licenser.task.work.WorkerProcesses;
+import dev.yumi.gradle.licenser.util.Utils;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.Internal;
 import org.gradle.api.tasks.TaskAction;
 import org.gradle.api.tasks.UntrackedTask;
+import org.gradle.workers.WorkQueue;
+import org.gradle.workers.WorkerExecutionException;
 import org.gradle.workers.WorkerExecutor;
 import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.Nullable;
 
 import javax.inject.Inject;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
-import java.util.HexFormat;
-import java.util.LinkedHashMap;
-import java.util.stream.StreamSupport;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Represents the task that applies license headers to project files.
  *
  * @author LambdAurora
- * @version 3.0.0
+ * @version 4.1.0
  * @since 1.0.0
  */
 @ApiStatus.Internal
@@ -46,6 +65,23 @@ public abstract class ApplyLicenseTask extends SourceDirectoryBasedTask {
 		this.setDescription("Applies the correct license headers to source files.");
 		this.setGroup("generation");
 
+		var reportService = WorkReportService.register(this.getProject().getGradle());
+		this.getReportService().convention(reportService);
+		this.usesService(reportService);
+
+		var configurationService = WorkConfigurationService.register(this.getProject().getGradle());
+		this.getConfigurationService().convention(configurationService);
+		this.usesService(configurationService);
+
+		this.getStateFile().convention(
+				this.getProject().getLayout().getBuildDirectory().file("yumi/licenser/" + this.getName() + "_state.bin")
+		);
+
+		var extension = this.getProject().getExtensions().getByType(YumiLicenserGradleExtension.class);
+		this.getWorkerProcessIsolation().convention(extension.getWorkerProcessIsolation());
+		this.getWorkerMaxHeapSize().convention(extension.getWorkerMaxHeapSize());
+		this.getWorkerClassDataSharing().convention(extension.getWorkerClassDataSharing());
+
 		if (!this.getLicenseHeader().get().isValid()) {
 			this.setEnabled(false);
 		}
@@ -54,76 +90,492 @@ public abstract class ApplyLicenseTask extends SourceDirectoryBasedTask {
 	@Inject
 	public abstract WorkerExecutor getWorkerExecutor();
 
-	@SuppressWarnings("unchecked")
+	/**
+	 * {@return the service through which the work actions of this task hand their reports back}
+	 *
+	 * @since 4.1.0
+	 */
+	@Internal
+	public abstract Property<WorkReportService> getReportService();
+
+	/**
+	 * {@return the service through which the work actions of this task get the license configuration}
+	 *
+	 * @since 4.1.0
+	 */
+	@Internal
+	public abstract Property<WorkConfigurationService> getConfigurationService();
+
+	/**
+	 * {@return {@code true} if the files should be processed in separate worker processes, or {@code false} otherwise}
+	 *
+	 * @since 4.1.0
+	 */
+	@Internal
+	public abstract Property<Boolean> getWorkerProcessIsolation();
+
+	/**
+	 * {@return the file in which the state of the files is recorded after headers got applied to them}
+	 *
+	 * @since 4.1.0
+	 */
+	@Internal
+	public abstract RegularFileProperty getStateFile();
+
+	/**
+	 * {@return the maximum heap size of worker processes}
+	 *
+	 * @since 4.1.0
+	 */
+	@Internal
+	public abstract Property<String> getWorkerMaxHeapSize();
+
+	/**
+	 * {@return {@code true} if worker processes should start from an AppCDS archive of their classes,
+	 * or {@code false} otherwise}
+	 *
+	 * @since 4.1.0
+	 */
+	@Internal
+	public abstract Property<Boolean> getWorkerClassDataSharing();
+
 	@TaskAction
-	public void execute() throws IOException, ClassNotFoundException, NoSuchAlgorithmException {
-		var workQueue = this.getWorkerExecutor().noIsolation();
-		var files = StreamSupport.stream(this.getEffectiveSourceFiles().spliterator(), false).toList();
+	public void execute() throws IOException {
+		boolean processIsolation = this.getWorkerProcessIsolation().get();
+		var logger = this.getLogger();
+
+		// Resolved once, as it is the same for every file.
+		int projectCreationYear = this.getProjectCreationYear().get();
+
+		WorkQueue workQueue;
+
+		if (processIsolation) {
+			// Build services cannot be reached from worker processes, which open the Git repository themselves.
+			var cacheDirectory = this.getGitCacheDirectory().get().getAsFile().toPath();
+			String maxHeapSize = this.getWorkerMaxHeapSize().get();
+			boolean classDataSharing = this.getWorkerClassDataSharing().get();
+
+			if (classDataSharing) {
+				Files.createDirectories(cacheDirectory);
+			}
+
+			workQueue = this.getWorkerExecutor().processIsolation(spec -> spec.forkOptions(options ->
+					WorkerProcesses.configure(options, maxHeapSize, classDataSharing ? cacheDirectory : null)
+			));
+		} else {
+			workQueue = this.getWorkerExecutor().noIsolation();
+		}
+
+		// Only the fingerprint of the configuration is isolated for each work item, instead of the configuration itself.
+		String configurationKey = processIsolation ? null : this.getConfigurationService().get().register(
+				this.getLicenseHeader().get(), this.getHeaderCommentManager().get()
+		);
 
 		var tempDir = Files.createTempDirectory("yumi-gradle-licenser-workers-");
-		var reportPaths = new LinkedHashMap<Path, Path>();
+		var reportService = this.getReportService().get();
+		Path stateFile = this.getStateFile().get().getAsFile().toPath();
+		AppliedFileStates states;
 
-		var digest = MessageDigest.getInstance("SHA-256");
+		try {
+			// Files unchanged since headers got last applied to them already have up-to-date headers.
+			String stateFingerprint = this.createStateFingerprint(
+					projectCreationYear, this.getProjectModificationYear(workQueue, processIsolation, tempDir)
+			);
+			var previousStates = AppliedFileStates.load(stateFile, stateFingerprint);
+			// Only the states of the files which are still walked are carried over.
+			states = new AppliedFileStates(stateFingerprint);
 
-		for (var file : files) {
-			var hashBytes = digest.digest(file.toPath().toAbsolutePath().toString().getBytes(StandardCharsets.UTF_8));
-			var nameHash = HexFormat.of().formatHex(hashBytes);
+			this.process(
+					workQueue, processIsolation, configurationKey, projectCreationYear, previousStates, states,
+					tempDir, reportService
+			);
+		} finally {
+			try {
+				// Report files are left behind by failed batches.
+				Utils.deleteRecursively(tempDir);
+			} catch (IOException e) {
+				logger.warn("Could not delete the temporary directory {}.", tempDir, e);
+			}
+		}
+
+		states.save(stateFile);
+	}
+
+	/**
+	 * Submits the source files which aren't up-to-date to the workers, and records their states once processed.
+	 *
+	 * @param workQueue the queue of the workers
+	 * @param processIsolation {@code true} if files are processed in separate worker processes, or {@code false} otherwise
+	 * @param configurationKey the fingerprint of the license configuration, or {@code null} in process isolation
+	 * @param projectCreationYear the creation year of the project
+	 * @param previousStates the states of the files recorded by the previous run
+	 * @param states the states of the files recorded by this run
+	 * @param tempDir the temporary directory of the workers
+	 * @param reportService the service through which work actions hand their reports back
+	 * @throws IOException if the reports could not be read
+	 */
+	private void process(
+			WorkQueue workQueue, boolean processIsolation, @Nullable String configurationKey, int projectCreationYear,
+			AppliedFileStates previousStates, AppliedFileStates states, Path tempDir, WorkReportService reportService
+	) throws IOException {
+		var logger = this.getLogger();
+		var results = new Results(states);
+
+		try (var processor = FileProcessor.create(Runtime.getRuntime().availableProcessors())) {
+			Submission submission;
+
+			// The years are only looked up once every file got walked, so that their history is indexed in a single walk.
+			try (var registration = processIsolation ? null : this.getGitService().get().openRegistration(
+					Path.of(this.getRootDirectory().get()), this.createGitRepositoryOptions()
+			)) {
+				submission = new Submission(
+						workQueue, processIsolation, configurationKey, projectCreationYear, previousStates, states, processor,
+						tempDir, registration, reportService, results
+				);
+
+				// Work starts on the first files while the rest of the source files are still being walked.
+				this.getEffectiveSourceFiles().getAsFileTree().visit(details -> {
+					if (!details.isDirectory()) {
+						submission.add(details.getFile());
+					}
+				});
+				submission.flush();
+			}
+
+			if (submission.skipped > 0) {
+				logger.info("Skipping {} out of {} files which are unchanged since their headers got applied.",
+						submission.skipped, submission.walked
+				);
+			}
+
+			try {
+				workQueue.await();
+			} catch (WorkerExecutionException e) {
+				reportService.discard(submission.chunks.stream().flatMap(chunk -> chunk.reportPaths().stream()).toList());
+				throw e;
+			}
+
+			for (var chunk : submission.chunks) {
+				for (int i = 0; i < chunk.reportPaths().size(); i++) {
+					// The reports which weren't handed over as soon as their batch got processed, like in process isolation.
+					var reports = this.takeReports(reportService, chunk.reportPaths().get(i));
+
+					if (!reports.isEmpty()) {
+						results.accept(reports, chunk.durations(), i, processor);
+					}
+				}
+
+				if (chunk.reportPaths().size() > 1) {
+					logger.info("Processed {} batches with an observed imbalance of {}.",
+							chunk.reportPaths().size(),
+							String.format(Locale.ROOT, "%.2f", WorkBatches.getImbalance(chunk.durations()))
+					);
+				}
+			}
+
+			for (var file : results.updatedFiles.stream().sorted().toList()) {
+				logger.lifecycle(" - Updated file {}", file);
+			}
+
+			logger.lifecycle("Updated {} out of {} files.", results.updatedFiles.size(), results.total.get());
+		}
+	}
+
+	/**
+	 * Gets the modification year of the project, which is resolved in a worker process in process isolation
+	 * so that the Git repository is never opened in the Gradle daemon.
+	 *
+	 * @param workQueue the queue of the workers
+	 * @param processIsolation {@code true} if files are processed in separate worker processes, or {@code false} otherwise
+	 * @param tempDir the temporary directory of the workers
+	 * @return the modification year of the project
+	 * @throws IOException if the year could not be read back from the worker process
+	 */
+	private int getProjectModificationYear(WorkQueue workQueue, boolean processIsolation, Path tempDir)
+			throws IOException {
+		if (!processIsolation) {
+			Path rootPath = Path.of(this.getRootDirectory().get());
+			return this.getGitService().get().getModificationYear(rootPath, rootPath);
+		}
+
+		Path outputFile = tempDir.resolve("project-year");
+		workQueue.submit(ProjectYearWorkAction.class, params -> {
+			params.getRootDirectory().set(this.getRootDirectory());
+			params.getOutputFile().set(outputFile.toFile());
+		});
+		workQueue.await();
+
+		return ProjectYearWorkAction.read(outputFile);
+	}
 
-			var reportPath = tempDir.resolve(nameHash);
-			reportPaths.put(file.toPath(), reportPath);
+	/**
+	 * Submits a batch of files to the workers.
+	 *
+	 * @param workQueue the queue to submit the batch to
+	 * @param batch the files of the batch
+	 * @param reportPath the path of the report file of the batch
+	 * @param processIsolation {@code true} if the batch is processed in a separate worker process, or {@code false} otherwise
+	 * @param configurationKey the fingerprint of the license configuration, or {@code null} in process isolation
+	 * @param projectCreationYear the creation year of the project
+	 */
+	private void submitBatch(
+			WorkQueue workQueue, List<File> batch, Path reportPath,
+			boolean processIsolation, @Nullable String configurationKey, int projectCreationYear
+	) {
+		workQueue.submit(ApplyLicenseWorkAction.class, params -> {
+			params.getSourceFiles().from(batch);
+			params.getRootDirectory().set(this.getRootDirectory());
+			params.getProjectDirectory().set(this.getProjectDirectory());
+			params.getBuildDirectory().set(this.getBuildDirectory());
+			params.getProjectCreationYear().set(projectCreationYear);
+			params.getFailOnMissingHeaderCommentHandler().set(this.getFailOnMissingHeaderCommentHandler());
 
-			workQueue.submit(ApplyLicenseWorkAction.class, params -> {
-				params.getSourceFile().set(file);
+			if (processIsolation) {
 				params.getLicenseHeader().set(this.getLicenseHeader());
 				params.getHeaderCommentManager().set(this.getHeaderCommentManager());
-				params.getRootDirectory().set(this.getRootDirectory());
-				params.getProjectDirectory().set(this.getProjectDirectory());
-				params.getBuildDirectory().set(this.getBuildDirectory());
-				params.getProjectCreationYear().set(this.getProjectCreationYear());
-				params.getFailOnMissingHeaderCommentHandler().set(this.getFailOnMissingHeaderCommentHandler());
-				params.getReportFile().set(reportPath.toFile());
-				params.getDebugMode().set(YumiLicenserGradlePlugin.DEBUG_MODE);
-			});
+				params.getGitCacheDirectory().set(this.getGitCacheDirectory().map(directory -> directory.getAsFile().toString()));
+				params.getGitRenameLimit().set(this.getGitRenameLimit());
+				params.getGitCommitGraph().set(this.getGitCommitGraph());
+				params.getYearBackend().set(this.getYearBackend());
+			} else {
+				params.getConfigurationService().set(this.getConfigurationService());
+				params.getConfigurationKey().set(configurationKey);
+				params.getGitService().set(this.getGitService());
+				params.getReportService().set(this.getReportService());
+			}
+
+			params.getReportFile().set(reportPath.toFile());
+			params.getDebugMode().set(YumiLicenserGradlePlugin.DEBUG_MODE);
+			params.getFileConcurrency().set(this.getFileConcurrency());
+			params.getTransformConcurrency().set(this.getTransformConcurrency());
+		});
+	}
+
+	/**
+	 * Takes the reports of a processed batch.
+	 *
+	 * @param reportService the report service
+	 * @param reportPath the path of the report file of the batch
+	 * @return the reports of the batch keyed by the path of their file
+	 * @throws IOException if the report file could not be read
+	 */
+	private Map<String, Report<ApplyReportDetails>> takeReports(WorkReportService reportService, Path reportPath)
+			throws IOException {
+		var submitted = reportService.take(reportPath);
+		var reports = submitted != null ? castReports(submitted) : null;
+
+		if (reports == null && Files.exists(reportPath)) {
+			// The work action couldn't reach the report service and wrote its reports to the report file instead.
+			try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(reportPath)))) {
+				reports = Report.read(in, ApplyReportDetails::read);
+			}
+
+			Files.delete(reportPath);
 		}
 
-		workQueue.await();
+		return reports != null ? reports : Map.of();
+	}
 
-		var reports = new LinkedHashMap<Path, Report<ApplyReportDetails>>();
-		var toClean = new ArrayList<Path>();
-		int total = 0;
+	@SuppressWarnings("unchecked")
+	private static Map<String, Report<ApplyReportDetails>> castReports(Map<String, Report<?>> reports) {
+		return (Map<String, Report<ApplyReportDetails>>) (Map<String, ?>) reports;
+	}
 
-		var logger = this.getLogger();
+	/**
+	 * Represents the submission of the source files to the workers, chunk by chunk while the source files are walked.
+	 * <p>
+	 * The first chunk is small so that work starts early, and the size of the next chunks doubles
+	 * so that few work items are submitted. The files of each chunk are scheduled into batches.
+	 * <p>
+	 * Every chunk registers its files through the same Git registration, so that the history of all of them
+	 * is indexed in a single walk once the source files are walked.
+	 */
+	private final class Submission {
+		private final WorkQueue workQueue;
+		private final boolean processIsolation;
+		private final @Nullable String configurationKey;
+		private final int projectCreationYear;
+		private final AppliedFileStates previousStates;
+		private final AppliedFileStates states;
+		private final FileProcessor processor;
+		private final Path tempDir;
+		private final @Nullable FileRegistration registration;
+		private final WorkReportService reportService;
+		private final Results results;
 
-		for (var reportPath : reportPaths.entrySet()) {
-			if (Files.exists(reportPath.getValue())) {
-				toClean.add(reportPath.getValue());
-				total++;
-
-				try (
-						var fileIn = Files.newInputStream(reportPath.getValue());
-						var objectIn = new ObjectInputStream(fileIn)
-				) {
-					var report = (Report<ApplyReportDetails>) objectIn.readObject();
-					report.logs().forEach(line -> logger.lifecycle("{}", line));
-					reports.put(reportPath.getKey(), report);
-				}
+		/**
+		 * The submitted chunks.
+		 */
+		final List<Chunk> chunks = new ArrayList<>();
+		int walked = 0;
+		int skipped = 0;
+		private int batchCount = 0;
+		private int chunkSize = WorkBatches.FIRST_CHUNK_SIZE;
+		private List<File> pending = new ArrayList<>();
+
+		Submission(
+				WorkQueue workQueue, boolean processIsolation, @Nullable String configurationKey, int projectCreationYear,
+				AppliedFileStates previousStates, AppliedFileStates states, FileProcessor processor, Path tempDir,
+				@Nullable FileRegistration registration, WorkReportService reportService, Results results
+		) {
+			this.workQueue = workQueue;
+			this.processIsolation = processIsolation;
+			this.configurationKey = configurationKey;
+			this.projectCreationYear = projectCreationYear;
+			this.previousStates = previousStates;
+			this.states = states;
+			this.processor = processor;
+			this.tempDir = tempDir;
+			this.registration = registration;
+			this.reportService = reportService;
+			this.results = results;
+		}
+
+		void add(File file) {
+			this.pending.add(file);
+			this.walked++;
+
+			if (this.pending.size() >= this.chunkSize) {
+				this.flush();
 			}
 		}
 
-		int updated = 0;
+		void flush() {
+			if (this.pending.isEmpty()) {
+				return;
+			}
+
+			var chunk = this.pending;
+			this.pending = new ArrayList<>();
+			this.chunkSize = WorkBatches.getNextChunkSize(this.chunkSize);
+
+			var upToDate = this.processor.process(chunk, file -> this.previousStates.isUpToDate(file.toPath()));
+			var files = new ArrayList<File>();
+
+			for (int i = 0; i < chunk.size(); i++) {
+				if (upToDate.get(i)) {
+					this.previousStates.copyTo(chunk.get(i).toPath(), this.states);
+					this.skipped++;
+				} else {
+					files.add(chunk.get(i));
+				}
+			}
+
+			if (files.isEmpty()) {
+				return;
+			}
 
-		for (var entry : reports.entrySet()) {
-			if (entry.getValue().details().updated()) {
-				logger.lifecycle(" - Updated file {}", entry.getKey());
-				updated++;
+			if (this.registration != null) {
+				// The history of the files registered by every chunk is indexed at once, instead of walking it for each file.
+				this.registration.register(files.stream().map(File::toPath).toList());
 			}
+
+			// Files are processed in batches, as submitting a work item per file costs more than the work on the file.
+			// The most costly files are scheduled first, so that no batch is left running alone at the end.
+			var schedule = WorkBatches.schedule(
+					files,
+					WorkBatches.estimateCosts(files, File::length, file -> this.previousStates.getCost(file.toPath())),
+					WorkBatches.getBatchCount(files.size())
+			);
+
+			getLogger().info("Scheduled {} files into {} batches, with an estimated imbalance of {}.",
+					files.size(), schedule.batches().size(), String.format(Locale.ROOT, "%.2f", schedule.imbalance())
+			);
+
+			var submitted = new Chunk(new ArrayList<>(), new long[schedule.batches().size()]);
+
+			for (var batch : schedule.batches()) {
+				var reportPath = this.tempDir.resolve("batch-" + this.batchCount++);
+				int index = submitted.reportPaths().size();
+				submitted.reportPaths().add(reportPath);
+
+				if (!this.processIsolation) {
+					// Handled as soon as the batch is processed, instead of holding every report until all batches are.
+					this.reportService.expect(reportPath, reports -> this.results.accept(
+							castReports(reports), submitted.durations(), index, FileProcessor.SEQUENTIAL
+					));
+				}
+
+				submitBatch(
+						this.workQueue, batch, reportPath, this.processIsolation, this.configurationKey, this.projectCreationYear
+				);
+			}
+
+			this.chunks.add(submitted);
 		}
+	}
 
-		logger.lifecycle("Updated {} out of {} files.", updated, total);
+	/**
+	 * Represents a chunk of submitted batches.
+	 *
+	 * @param reportPaths the paths of the report files of the batches
+	 * @param durations the time it took to process each batch, in nanoseconds
+	 */
+	private record Chunk(List<Path> reportPaths, long[] durations) {
+	}
+
+	/**
+	 * Represents the results of the processed batches, which only keeps the outcome of each file.
+	 */
+	private final class Results {
+		private final AppliedFileStates states;
+		final Queue<String> updatedFiles = new ConcurrentLinkedQueue<>();
+		final AtomicInteger total = new AtomicInteger();
 
-		for (var path : toClean) {
-			Files.delete(path);
+		Results(AppliedFileStates states) {
+			this.states = states;
 		}
-		Files.delete(tempDir);
+
+		/**
+		 * Accepts the reports of a processed batch.
+		 *
+		 * @param reports the reports of the files of the batch, keyed by their path
+		 * @param durations the durations of the batches of the chunk of the batch
+		 * @param index the index of the batch in its chunk
+		 * @param processor the processor recording the states of the files
+		 */
+		void accept(
+				Map<String, Report<ApplyReportDetails>> reports, long[] durations, int index, FileProcessor processor
+		) {
+			long duration = 0;
+
+			for (var entry : reports.entrySet()) {
+				entry.getValue().logs().forEach(line -> getLogger().lifecycle("{}", line));
+				duration += entry.getValue().duration();
+
+				if (entry.getValue().details().updated()) {
+					this.updatedFiles.add(entry.getKey());
+				}
+			}
+
+			durations[index] = duration;
+			this.total.addAndGet(reports.size());
+
+			processor.process(List.copyOf(reports.entrySet()), entry -> {
+				try {
+					this.states.record(Path.of(entry.getKey()), entry.getValue().duration());
+				} catch (IOException e) {
+					// Left out of the states, so that the file is processed again.
+				}
+
+				return null;
+			});
+		}
+	}
+
+	/**
+	 * Creates the fingerprint of everything the headers depend on besides the files themselves.
+	 * <p>
+	 * The headers of unchanged files may still change with the current year or the year of the latest commit of the project.
+	 *
+	 * @param projectCreationYear the creation year of the project
+	 * @param projectModificationYear the modification year of the project
+	 * @return the fingerprint
+	 */
+	private String createStateFingerprint(int projectCreationYear, int projectModificationYear) {
+		return WorkConfigurationService.fingerprint(this.getLicenseHeader().get(), this.getHeaderCommentManager().get())
+				+ ':' + Calendar.getInstance().get(Calendar.YEAR)
+				+ ':' + projectCreationYear
+				+ ':' + projectModificationYear;
 	}
 }
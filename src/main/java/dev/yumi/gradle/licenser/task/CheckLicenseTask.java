@@ -8,11 +8,15 @@
 
 package dev.yumi.gradle.licenser.task;
 
+import dev.yumi.gradle.licenser.YumiLicenserGradleExtension;
 import dev.yumi.gradle.licenser.api.comment.HeaderComment;
+import dev.yumi.gradle.licenser.impl.HeaderWindow;
 import dev.yumi.gradle.licenser.impl.LicenseHeader;
 import dev.yumi.gradle.licenser.impl.ValidationError;
 import org.gradle.api.GradleException;
 import org.gradle.api.logging.Logger;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.Internal;
 import org.gradle.api.tasks.TaskAction;
 import org.gradle.work.ChangeType;
 import org.gradle.work.FileChange;
@@ -24,15 +28,18 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.StreamSupport;
 
 /**
  * Represents a task that checks the validity of license headers in project files.
  *
  * @author LambdAurora
- * @version 3.0.0
+ * @version 4.1.0
  * @since 1.0.0
  */
 @ApiStatus.Internal
@@ -43,11 +50,23 @@ public abstract class CheckLicenseTask extends SourceDirectoryBasedTask {
 		this.setDescription("Checks whether source files contain a valid license header.");
 		this.setGroup("verification");
 
+		var extension = this.getProject().getExtensions().getByType(YumiLicenserGradleExtension.class);
+		this.getCheckConcurrency().convention(extension.getCheckConcurrency());
+
 		if (!this.getLicenseHeader().get().isValid()) {
 			this.setEnabled(false);
 		}
 	}
 
+	/**
+	 * {@return the maximum number of files checked at once}
+	 *
+	 * @see YumiLicenserGradleExtension#getCheckConcurrency()
+	 * @since 4.1.0
+	 */
+	@Internal
+	public abstract Property<Integer> getCheckConcurrency();
+
 	@TaskAction
 	public void execute(InputChanges inputChanges) {
 		this.execute(
@@ -58,14 +77,15 @@ public abstract class CheckLicenseTask extends SourceDirectoryBasedTask {
 						).filter(action -> action.getChangeType() != ChangeType.REMOVED)
 						.map(FileChange::getFile)
 						.map(File::toPath),
+				this.getCheckConcurrency().get(),
 				new Consumer(this.getLicenseHeader().get())
 		);
 	}
 
 	class Consumer implements SourceConsumer {
 		private final LicenseHeader licenseHeader;
-		private final List<FailedCheck> failedChecks = new ArrayList<>();
-		private int total = 0;
+		private final Queue<FailedCheck> failedChecks = new ConcurrentLinkedQueue<>();
+		private final AtomicInteger total = new AtomicInteger();
 
 		public Consumer(LicenseHeader licenseHeader) {
 			this.licenseHeader = licenseHeader;
@@ -82,7 +102,8 @@ public abstract class CheckLicenseTask extends SourceDirectoryBasedTask {
 				Path path
 		) throws IOException {
 			var displayPath = projectPath.relativize(path);
-			var result = headerComment.readHeaderComment(Files.readString(path));
+			// Only the start of the file up to the end of its header comment is read.
+			var result = HeaderWindow.read(path, headerComment).result();
 
 			if (result.existing() == null) {
 				this.failedChecks.add(new FailedCheck(displayPath, List.of("Missing header comment.")));
@@ -98,19 +119,23 @@ public abstract class CheckLicenseTask extends SourceDirectoryBasedTask {
 				}
 			}
 
-			this.total++;
+			this.total.incrementAndGet();
 		}
 
 		@Override
 		public void end(Logger logger) {
+			int total = this.total.get();
+
 			if (this.failedChecks.isEmpty()) {
-				var message = String.format("All license header checks passed (%d files).", this.total);
+				var message = String.format("All license header checks passed (%d files).", total);
 				logger.lifecycle(message);
 				this.writeReportFile(message + "\n");
 			} else {
 				var builder = new StringBuilder();
+				// Files are checked concurrently, sorting keeps the report the same between runs.
+				var failedChecks = this.failedChecks.stream().sorted(Comparator.comparing(FailedCheck::path)).toList();
 
-				for (var failedCheck : this.failedChecks) {
+				for (var failedCheck : failedChecks) {
 					logger.error(" - {} - license checks have failed.", failedCheck.path());
 					builder.append(String.format("- %s - license checks have failed.\n", failedCheck.path));
 					for (var error : failedCheck.errors()) {
@@ -120,13 +145,13 @@ public abstract class CheckLicenseTask extends SourceDirectoryBasedTask {
 				}
 
 				this.writeReportFile(String.format("License header checks have failed on %d out of %d files.\n\n%s",
-						this.failedChecks.size(), this.total,
+						failedChecks.size(), total,
 						builder
 				));
 
 				throw new GradleException(
 						String.format("License header checks have failed on %d out of %d files.",
-								this.failedChecks.size(), this.total
+								failedChecks.size(), total
 						)
 				);
 			}
@@ -19,13 +19,15 @@ import java.nio.file.Path;
  * Represents a source consumer to execute an action on project files.
  *
  * @author LambdAurora
- * @version 2.0.0
+ * @version 4.1.0
  * @since 1.0.0
  */
 @ApiStatus.Internal
 interface SourceConsumer {
 	/**
 	 * Called with a project file to process.
+	 * <p>
+	 * This may be called concurrently from several threads.
 	 *
 	 * @param rootDir the root directory
 	 * @param projectCreationYear the project's creation year
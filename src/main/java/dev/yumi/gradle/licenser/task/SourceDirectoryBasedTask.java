@@ -11,11 +11,16 @@ package dev.yumi.gradle.licenser.task;
 import dev.yumi.gradle.licenser.YumiLicenserGradleExtension;
 import dev.yumi.gradle.licenser.api.comment.HeaderComment;
 import dev.yumi.gradle.licenser.api.comment.HeaderCommentManager;
+import dev.yumi.gradle.licenser.api.rule.LicenseYearBackend;
+import dev.yumi.gradle.licenser.impl.FileProcessor;
 import dev.yumi.gradle.licenser.impl.LicenseHeader;
+import dev.yumi.gradle.licenser.impl.git.GitRepositoryService;
+import dev.yumi.gradle.licenser.impl.git.RepositoryOptions;
 import org.gradle.api.DefaultTask;
 import org.gradle.api.GradleException;
 import org.gradle.api.file.ConfigurableFileCollection;
 import org.gradle.api.file.Directory;
+import org.gradle.api.file.DirectoryProperty;
 import org.gradle.api.file.RegularFileProperty;
 import org.gradle.api.provider.Property;
 import org.gradle.api.tasks.*;
@@ -29,7 +34,7 @@ import java.util.stream.Stream;
  * Represents a task that acts on a given source directory set.
  *
  * @author LambdAurora
- * @version 4.0.0
+ * @version 4.1.0
  * @since 1.0.0
  */
 @ApiStatus.Internal
@@ -43,6 +48,18 @@ public abstract class SourceDirectoryBasedTask extends DefaultTask {
 		this.getProjectDirectory().convention(this.getProject().getProjectDir().toString());
 		this.getProjectCreationYear().convention(extension.getProjectCreationYear());
 		this.getFailOnMissingHeaderCommentHandler().convention(extension.getFailOnMissingHeaderCommentHandler());
+		this.getGitRenameLimit().convention(extension.getGitRenameLimit());
+		this.getGitCommitGraph().convention(extension.getGitCommitGraph());
+		this.getYearBackend().convention(extension.getYearBackend());
+		this.getFileConcurrency().convention(extension.getFileConcurrency());
+		this.getTransformConcurrency().convention(extension.getTransformConcurrency());
+
+		var gitService = GitRepositoryService.register(this.getProject().getGradle());
+		this.getGitService().convention(gitService);
+		this.usesService(gitService);
+		this.getGitCacheDirectory().convention(
+				this.getProject().getRootProject().getLayout().getBuildDirectory().dir("yumi/licenser")
+		);
 
 		var buildDir = this.getProject().getLayout().getBuildDirectory();
 
@@ -114,6 +131,35 @@ public abstract class SourceDirectoryBasedTask extends DefaultTask {
 	@Input
 	public abstract Property<Boolean> getFailOnMissingHeaderCommentHandler();
 
+	/**
+	 * {@return the property of the maximum number of files compared to detect renames in a single commit
+	 * when resolving creation years}
+	 *
+	 * @see YumiLicenserGradleExtension#getGitRenameLimit()
+	 * @since 4.1.0
+	 */
+	@Internal
+	public abstract Property<Integer> getGitRenameLimit();
+
+	/**
+	 * {@return the property which makes history walks use the changed-path Bloom filters of a commit-graph
+	 * if set to {@code true}}
+	 *
+	 * @see YumiLicenserGradleExtension#getGitCommitGraph()
+	 * @since 4.1.0
+	 */
+	@Internal
+	public abstract Property<Boolean> getGitCommitGraph();
+
+	/**
+	 * {@return the property of the backend used to read the Git history when resolving years}
+	 *
+	 * @see YumiLicenserGradleExtension#getYearBackend()
+	 * @since 4.1.0
+	 */
+	@Internal
+	public abstract Property<LicenseYearBackend> getYearBackend();
+
 	/**
 	 * {@return the build directory path property}
 	 */
@@ -123,41 +169,96 @@ public abstract class SourceDirectoryBasedTask extends DefaultTask {
 	@OutputFile
 	public abstract RegularFileProperty getReportFile();
 
+	/**
+	 * {@return the Git service shared by the tasks of this build}
+	 *
+	 * @since 4.1.0
+	 */
+	@Internal
+	public abstract Property<GitRepositoryService> getGitService();
+
+	/**
+	 * {@return the maximum number of files processed at once}
+	 *
+	 * @since 4.1.0
+	 */
+	@Internal
+	public abstract Property<Integer> getFileConcurrency();
+
+	/**
+	 * {@return the maximum number of files formatted at once}
+	 *
+	 * @since 4.1.0
+	 */
+	@Internal
+	public abstract Property<Integer> getTransformConcurrency();
+
+	/**
+	 * {@return the directory in which Git-related data is kept between builds}
+	 *
+	 * @since 4.1.0
+	 */
+	@Internal
+	public abstract DirectoryProperty getGitCacheDirectory();
+
+	/**
+	 * {@return the options of the shared Git repository, as configured for this task}
+	 */
+	RepositoryOptions createGitRepositoryOptions() {
+		return new RepositoryOptions(
+				this.getGitCacheDirectory().get().getAsFile().toPath(),
+				this.getGitRenameLimit().get(),
+				this.getGitCommitGraph().get(),
+				this.getYearBackend().get()
+		);
+	}
+
 	/**
 	 * Executes the given action to all matched files.
+	 * <p>
+	 * The files are processed concurrently, so the consumer must be thread-safe.
 	 *
 	 * @param headerCommentManager the header comment manager to find out the header comments of files
 	 * @param sourceFiles the source files to treat in this task
+	 * @param concurrency the maximum number of files processed at once
 	 * @param consumer the action to execute on a given file
 	 */
 	void execute(
-			HeaderCommentManager headerCommentManager, Stream<Path> sourceFiles, SourceConsumer consumer
+			HeaderCommentManager headerCommentManager, Stream<Path> sourceFiles, int concurrency, SourceConsumer consumer
 	) {
 		Path rootDir = Path.of(this.getRootDirectory().get());
 		Path projectDir = Path.of(this.getProjectDirectory().get());
 		Path buildDir = Path.of(this.getBuildDirectory().get());
+		int projectCreationYear = this.getProjectCreationYear().get();
+
+		boolean failOnMissingHeaderCommentHandler = this.getFailOnMissingHeaderCommentHandler().get();
+		var logger = this.getLogger();
 
-		sourceFiles.forEach(sourcePath -> {
-			HeaderComment headerComment = headerCommentManager.findHeaderComment(sourcePath);
-
-			if (headerComment != null) {
-				try {
-					consumer.consume(
-							rootDir,
-							this.getProjectCreationYear().get(),
-							buildDir,
-							this.getLogger(),
-							projectDir,
-							headerComment,
-							sourcePath
-					);
-				} catch (IOException e) {
-					throw new GradleException("Failed to load file " + sourcePath, e);
+		try (var processor = FileProcessor.create(Math.max(1, concurrency))) {
+			processor.process(sourceFiles::iterator, sourcePath -> {
+				HeaderComment headerComment = headerCommentManager.findHeaderComment(sourcePath);
+
+				if (headerComment != null) {
+					try {
+						consumer.consume(
+								rootDir,
+								projectCreationYear,
+								buildDir,
+								logger,
+								projectDir,
+								headerComment,
+								sourcePath
+						);
+					} catch (IOException e) {
+						throw new GradleException("Failed to load file " + sourcePath, e);
+					}
+				} else if (failOnMissingHeaderCommentHandler) {
+					throw new GradleException("No header comment handler found for file " + sourcePath + ".");
 				}
-			} else if (this.getFailOnMissingHeaderCommentHandler().get()) {
-				throw new GradleException("No header comment handler found for file " + sourcePath + ".");
-			}
-		});
+
+				return null;
+			});
+		}
 
 		consumer.end(this.getLogger());
 	}
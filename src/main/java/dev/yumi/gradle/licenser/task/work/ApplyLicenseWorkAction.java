@@ -8,11 +8,15 @@
 
 package dev.yumi.gradle.licenser.task.work;
 
+import dev.yumi.gradle.licenser.impl.FileRewriter;
+import dev.yumi.gradle.licenser.impl.HeaderWindow;
 import dev.yumi.gradle.licenser.util.Utils;
 import org.gradle.api.GradleException;
+import org.jspecify.annotations.Nullable;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.util.List;
@@ -21,44 +25,61 @@ import java.util.List;
  * Represents a work action related to license application.
  *
  * @author LambdAurora
- * @version 2.2.0
+ * @version 4.1.0
  * @since 2.2.0
  */
 public abstract class ApplyLicenseWorkAction extends LicenseWorkAction {
 	@Override
-	protected void execute(Context context) throws IOException {
-		context.log("=> Visiting %s...", context.sourcePath);
+	protected FileStages<?, ?> createStages() {
+		return ApplyStages.INSTANCE;
+	}
+
+	/**
+	 * Represents the stages applying the license header to a single source file.
+	 * <p>
+	 * Only the start of the source file up to the end of its header comment is read, and only its header comment is decoded.
+	 * The rest of it is transferred as is when the header needs to be updated.
+	 */
+	private static final class ApplyStages implements FileStages<HeaderWindow, ApplyStages.Update> {
+		static final ApplyStages INSTANCE = new ApplyStages();
 
-		String read = Files.readString(context.sourcePath, StandardCharsets.UTF_8);
-		var readComment = context.headerComment.readHeaderComment(read);
+		@Override
+		public HeaderWindow read(Context context) throws IOException {
+			context.log("=> Visiting %s...", context.sourcePath);
 
-		List<String> lines = context.licenseHeader.format(
-				context.rootDir, context.projectCreationYear, context, context.sourcePath, readComment.existing()
-		);
+			return HeaderWindow.read(context.sourcePath, context.headerComment);
+		}
 
-		boolean updated = false;
+		@Override
+		public @Nullable Update process(Context context, HeaderWindow read) {
+			List<String> lines = context.licenseHeader.format(
+					context.yearResolver, context.rootDir, context.projectCreationYear, context, context.sourcePath,
+					read.result().existing()
+			);
 
-		if (lines != null) {
-			updated = true;
+			if (lines == null) {
+				context.acceptReport(new ApplyReportDetails(false));
+				return null;
+			}
 
-			String start = "";
+			return new Update(read, lines);
+		}
 
-			if (readComment.start() != 0) {
-				start = read.substring(0, readComment.start());
+		@Override
+		public void write(Context context, Update update) throws IOException {
+			var window = update.window();
+			var readComment = window.result();
 
-				if (start.isBlank()) start = "";
-			}
+			String start = window.prefix();
 
-			String end = read.substring(readComment.end());
+			if (start.isBlank()) start = "";
+
+			String header = start + context.headerComment.writeHeaderComment(update.lines(), readComment.separator());
 
 			if (readComment.start() == readComment.end() && readComment.start() == 0) {
-				end = readComment.separator() + readComment.separator() + end;
+				header += readComment.separator() + readComment.separator();
 			}
 
-			String content = start
-					+ context.headerComment.writeHeaderComment(lines, readComment.separator())
-					+ end;
-
 			try {
 				var backupPath = Utils.getBackupPath(context.buildDir, context.projectDir, context.sourcePath);
 
@@ -75,12 +96,36 @@ public abstract class ApplyLicenseWorkAction extends LicenseWorkAction {
 				throw new GradleException("Cannot backup file " + context.sourcePath + ", abandoning formatting.", e);
 			}
 
-			Files.writeString(context.sourcePath, content, StandardCharsets.UTF_8);
+			// The rest of the file after the header comment is copied as is.
+			FileRewriter.replaceStart(context.sourcePath, header, readComment.end());
+
+			context.acceptReport(new ApplyReportDetails(true));
 		}
 
-		context.acceptReport(new ApplyReportDetails(updated));
+		/**
+		 * Represents the update of the header of a source file.
+		 *
+		 * @param window the read start of the source file
+		 * @param lines the lines of the updated header
+		 */
+		record Update(HeaderWindow window, List<String> lines) {}
 	}
 
 	public record ApplyReportDetails(boolean updated) implements Report.Details {
+		/**
+		 * Reads details written by {@link #write(DataOutput)}.
+		 *
+		 * @param in the input to read from
+		 * @return the details
+		 * @throws IOException if the details could not be read
+		 */
+		public static ApplyReportDetails read(DataInput in) throws IOException {
+			return new ApplyReportDetails(in.readBoolean());
+		}
+
+		@Override
+		public void write(DataOutput out) throws IOException {
+			out.writeBoolean(this.updated);
+		}
 	}
 }
@@ -10,56 +10,319 @@ package dev.yumi.gradle.licenser.task.work;
 
 import dev.yumi.gradle.licenser.api.comment.HeaderComment;
 import dev.yumi.gradle.licenser.api.comment.HeaderCommentManager;
+import dev.yumi.gradle.licenser.api.rule.LicenseYearBackend;
+import dev.yumi.gradle.licenser.impl.FilePipeline;
 import dev.yumi.gradle.licenser.impl.LicenseHeader;
 import dev.yumi.gradle.licenser.impl.LogConsumer;
+import dev.yumi.gradle.licenser.impl.git.GitRepositories;
+import dev.yumi.gradle.licenser.impl.git.GitRepositoryService;
+import dev.yumi.gradle.licenser.impl.git.RepositoryOptions;
+import dev.yumi.gradle.licenser.impl.git.YearResolver;
 import org.gradle.api.GradleException;
+import org.gradle.api.file.ConfigurableFileCollection;
 import org.gradle.api.file.RegularFileProperty;
 import org.gradle.api.provider.Property;
 import org.gradle.api.tasks.Input;
 import org.gradle.workers.WorkAction;
 import org.gradle.workers.WorkParameters;
+import org.jspecify.annotations.Nullable;
 
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
 import java.io.IOException;
-import java.io.ObjectOutputStream;
-import java.io.Serializable;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
- * Represents a work action related to licensing.
+ * Represents a work action related to licensing, which processes a batch of source files.
  *
  * @author LambdAurora
- * @version 4.0.0
+ * @version 4.1.0
  * @since 2.2.0
  */
 public abstract class LicenseWorkAction
 		implements WorkAction<LicenseWorkAction.Parameters> {
+	/**
+	 * The maximum number of source files waiting between two stages of the pipeline of a batch.
+	 */
+	private static final int QUEUE_CAPACITY = 32;
+
 	@Override
 	public final void execute() {
 		var params = this.getParameters();
+		var configuration = getConfiguration(params);
+		var reports = new LinkedHashMap<String, Report<?>>();
+		GradleException failure = null;
+
+		try (var isolatedRepositories = openIsolatedRepositories(params)) {
+			YearResolver yearResolver;
+
+			if (params.getGitService().isPresent()) {
+				yearResolver = params.getGitService().get();
+			} else if (isolatedRepositories != null) {
+				yearResolver = isolatedRepositories;
+			} else {
+				yearResolver = YearResolver.DIRECT;
+			}
 
-		Path sourcePath = params.getSourceFile().get().getAsFile().toPath();
+			var outcomes = this.process(this.createStages(), params, configuration, yearResolver);
 
-		HeaderComment headerComment = params.getHeaderCommentManager().get().findHeaderComment(sourcePath);
+			for (var outcome : outcomes) {
+				if (outcome.report() != null) {
+					reports.put(outcome.sourcePath().toString(), outcome.report());
+				}
 
-		if (headerComment != null) {
-			try {
-				var context = new Context(sourcePath, headerComment, params);
+				if (outcome.failure() == null) {
+					continue;
+				}
+
+				if (failure == null) {
+					failure = outcome.failure();
+				} else {
+					failure.addSuppressed(outcome.failure());
+				}
+			}
+		}
 
-				this.execute(context);
+		Path reportFile = params.getReportFile().get().getAsFile().toPath();
 
-				context.finish(params.getReportFile().get().getAsFile().toPath());
+		if (params.getReportService().isPresent()) {
+			params.getReportService().get().submit(reportFile, reports);
+		} else {
+			try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(reportFile)))) {
+				Report.write(out, reports);
 			} catch (IOException e) {
-				throw new GradleException("Failed to load file " + sourcePath, e);
+				var exception = new GradleException("Failed to write the report of the batch.", e);
+
+				if (failure != null) {
+					exception.addSuppressed(failure);
+				}
+
+				throw exception;
+			}
+		}
+
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	private static WorkConfigurationService.Entry getConfiguration(Parameters params) {
+		if (params.getConfigurationService().isPresent() && params.getConfigurationKey().isPresent()) {
+			var entry = params.getConfigurationService().get().get(params.getConfigurationKey().get());
+
+			if (entry != null) {
+				return entry;
 			}
-		} else if (params.getFailOnMissingHeaderCommentHandler().get()) {
-			throw new GradleException("No header comment handler found for file " + sourcePath + ".");
 		}
+
+		if (!params.getLicenseHeader().isPresent() || !params.getHeaderCommentManager().isPresent()) {
+			throw new GradleException("Could not find the license configuration of the work action.");
+		}
+
+		return new WorkConfigurationService.Entry(params.getLicenseHeader().get(), params.getHeaderCommentManager().get());
+	}
+
+	/**
+	 * Opens the Git repositories of a work action which cannot reach the Git service, like in a worker process.
+	 * <p>
+	 * The history of the files of the batch is then indexed once for the whole batch.
+	 *
+	 * @param params the parameters of the work action
+	 * @return the repositories, or {@code null} if the Git service is available or no Git options are given
+	 */
+	private static @Nullable GitRepositories openIsolatedRepositories(Parameters params) {
+		if (params.getGitService().isPresent() || !params.getGitCacheDirectory().isPresent()) {
+			return null;
+		}
+
+		var repositories = new GitRepositories();
+		repositories.registerFiles(
+				Path.of(params.getRootDirectory().get()),
+				new RepositoryOptions(
+						Path.of(params.getGitCacheDirectory().get()),
+						params.getGitRenameLimit().get(),
+						params.getGitCommitGraph().get(),
+						params.getYearBackend().get()
+				),
+				params.getSourceFiles().getFiles().stream().map(File::toPath).toList()
+		);
+		return repositories;
 	}
 
-	protected abstract void execute(Context context) throws IOException;
+	/**
+	 * Processes the source files of the batch through a pipeline, so that reading and writing files
+	 * overlaps with the processing of other files.
+	 *
+	 * @param stages the stages processing a single source file
+	 * @param params the parameters of the work action
+	 * @param configuration the license configuration
+	 * @param yearResolver the resolver of the years of the source files
+	 * @param <R> the type of the read source files
+	 * @param <W> the type of the processed source files, to write
+	 * @return the outcome of each source file
+	 */
+	private <R, W> List<FileOutcome> process(
+			FileStages<R, W> stages, Parameters params, WorkConfigurationService.Entry configuration, YearResolver yearResolver
+	) {
+		var limits = new FilePipeline.Limits(
+				Math.max(1, params.getFileConcurrency().getOrElse(1)),
+				Math.max(1, params.getTransformConcurrency().getOrElse(1)),
+				QUEUE_CAPACITY
+		);
+
+		var pipeline = new FilePipeline<Path, FileJob<R, W>, FileJob<R, W>, FileOutcome>(
+				sourcePath -> {
+					HeaderComment headerComment = configuration.headerCommentManager().findHeaderComment(sourcePath);
+
+					if (headerComment == null) {
+						GradleException failure = null;
+
+						if (params.getFailOnMissingHeaderCommentHandler().get()) {
+							failure = new GradleException("No header comment handler found for file " + sourcePath + ".");
+						}
+
+						return FileJob.done(new FileOutcome(sourcePath, null, failure));
+					}
+
+					var context = new Context(sourcePath, headerComment, configuration.licenseHeader(), yearResolver, params);
+					return FileJob.run(context, "load", () -> new FileJob<>(context, stages.read(context), null, null));
+				},
+				job -> {
+					if (job.outcome() != null) return job;
+
+					var context = job.context();
+					var next = FileJob.<R, W>run(context, "process", () -> new FileJob<>(context, null, stages.process(context, job.read()), null));
+
+					if (next.outcome() == null && next.processed() == null) {
+						// Nothing to write.
+						return FileJob.done(new FileOutcome(context.sourcePath, context.finish(), null));
+					}
+
+					return next;
+				},
+				job -> {
+					if (job.outcome() != null) return job.outcome();
+
+					var context = job.context();
+					var next = FileJob.run(context, "write", () -> {
+						stages.write(context, job.processed());
+						return job;
+					});
+
+					return next.outcome() != null ? next.outcome() : new FileOutcome(context.sourcePath, context.finish(), null);
+				},
+				limits
+		);
+
+		return pipeline.process(params.getSourceFiles().getFiles().stream().map(File::toPath).toList());
+	}
+
+	/**
+	 * Creates the stages processing a single source file.
+	 * <p>
+	 * The stages of several source files of a batch run at once, on different threads.
+	 *
+	 * @return the stages
+	 */
+	protected abstract FileStages<?, ?> createStages();
+
+	/**
+	 * Represents the stages processing a single source file.
+	 *
+	 * @param <R> the type of the read source file
+	 * @param <W> the type of the processed source file, to write
+	 */
+	protected interface FileStages<R, W> {
+		/**
+		 * Reads the source file from the disk.
+		 *
+		 * @param context the context of the source file
+		 * @return the read source file
+		 * @throws IOException if the source file could not be read
+		 */
+		R read(Context context) throws IOException;
+
+		/**
+		 * Processes the read source file, without accessing the disk.
+		 *
+		 * @param context the context of the source file
+		 * @param read the read source file
+		 * @return the processed source file to write, or {@code null} if there's nothing to write
+		 * @throws IOException if the source file could not be processed
+		 */
+		@Nullable W process(Context context, R read) throws IOException;
+
+		/**
+		 * Writes the processed source file to the disk.
+		 *
+		 * @param context the context of the source file
+		 * @param processed the processed source file
+		 * @throws IOException if the source file could not be written
+		 */
+		void write(Context context, W processed) throws IOException;
+	}
+
+	/**
+	 * Represents a source file going through the stages of the pipeline.
+	 *
+	 * @param context the context of the source file, or {@code null} if done
+	 * @param read the read source file
+	 * @param processed the processed source file
+	 * @param outcome the outcome of the source file if done, or {@code null} otherwise
+	 */
+	private record FileJob<R, W>(
+			@Nullable Context context, @Nullable R read, @Nullable W processed, @Nullable FileOutcome outcome
+	) {
+		static <R, W> FileJob<R, W> done(FileOutcome outcome) {
+			return new FileJob<>(null, null, null, outcome);
+		}
+
+		/**
+		 * Runs a stage of the given source file, turning its failure into the outcome of the source file.
+		 *
+		 * @param context the context of the source file
+		 * @param action the action done by the stage, like {@code load} or {@code write}, to report I/O failures
+		 * @param step the stage to run
+		 * @return the source file once gone through the stage
+		 */
+		static <R, W> FileJob<R, W> run(Context context, String action, Step<R, W> step) {
+			long start = System.nanoTime();
+
+			try {
+				return step.run();
+			} catch (IOException e) {
+				return done(new FileOutcome(context.sourcePath, null,
+						new GradleException("Failed to " + action + " file " + context.sourcePath, e)
+				));
+			} catch (GradleException e) {
+				// The rest of the batch is still processed, like it would with one work item per file.
+				return done(new FileOutcome(context.sourcePath, null, e));
+			} catch (RuntimeException e) {
+				// Like a failed year lookup, which is wrapped while formatting the header.
+				return done(new FileOutcome(context.sourcePath, null,
+						new GradleException("Failed to process file " + context.sourcePath, e)
+				));
+			} finally {
+				// Only the time spent in the stages is accounted, not the time spent waiting between them.
+				context.duration += System.nanoTime() - start;
+			}
+		}
+
+		@FunctionalInterface
+		interface Step<R, W> {
+			FileJob<R, W> run() throws IOException;
+		}
+	}
+
+	private record FileOutcome(Path sourcePath, @Nullable Report<?> report, @Nullable GradleException failure) {}
 
 	protected static class Context implements LogConsumer {
 		public final Path sourcePath;
@@ -69,25 +332,29 @@ public abstract class LicenseWorkAction
 		public final Path projectDir;
 		public final Path buildDir;
 		public final int projectCreationYear;
+		public final YearResolver yearResolver;
 		private final boolean debugMode;
 
 		private final List<String> logs = new ArrayList<>();
+		private long duration;
 
 		private Report.Details details = Report.NoDetails.INSTANCE;
 
 		public Context(
-				Path sourcePath, HeaderComment headerComment, Parameters params
+				Path sourcePath, HeaderComment headerComment, LicenseHeader licenseHeader, YearResolver yearResolver,
+				Parameters params
 		) {
 			this.sourcePath = sourcePath;
 			this.headerComment = headerComment;
 
-			this.licenseHeader = params.getLicenseHeader().get();
+			this.licenseHeader = licenseHeader;
 
 			this.rootDir = Path.of(params.getRootDirectory().get());
 			this.projectDir = Path.of(params.getProjectDirectory().get());
 			this.buildDir = Path.of(params.getBuildDirectory().get());
 
 			this.projectCreationYear = params.getProjectCreationYear().get();
+			this.yearResolver = yearResolver;
 			this.debugMode = params.getDebugMode().get();
 		}
 
@@ -102,37 +369,139 @@ public abstract class LicenseWorkAction
 			this.details = details;
 		}
 
-		private void finish(Path reportFile) throws IOException {
-			try (
-					var fileOut = Files.newOutputStream(reportFile);
-					var objectOut = new ObjectOutputStream(fileOut)
-			) {
-				objectOut.writeObject(new Report<>(this.logs, details));
-			}
+		private Report<?> finish() {
+			return new Report<>(this.logs, this.details, this.duration);
 		}
 	}
 
-	public record Report<T extends Report.Details>(List<String> logs, T details) implements Serializable {
-		public interface Details extends Serializable {}
+	/**
+	 * Represents the report of a processed source file.
+	 *
+	 * @param logs the logs of the processing of the file
+	 * @param details the details specific to the work action
+	 * @param duration the time it took to process the file, in nanoseconds
+	 * @param <T> the type of the details
+	 */
+	public record Report<T extends Report.Details>(List<String> logs, T details, long duration) {
+		/**
+		 * Writes the given reports in a compact binary format, for work actions which cannot reach the report service.
+		 *
+		 * @param out the output to write to
+		 * @param reports the reports keyed by the path of their file
+		 * @throws IOException if the reports could not be written
+		 * @see #read(DataInput, Details.Reader)
+		 */
+		public static void write(DataOutput out, Map<String, Report<?>> reports) throws IOException {
+			out.writeInt(reports.size());
+
+			for (var entry : reports.entrySet()) {
+				out.writeUTF(entry.getKey());
+				out.writeInt(entry.getValue().logs().size());
+
+				for (var line : entry.getValue().logs()) {
+					out.writeUTF(line);
+				}
+
+				entry.getValue().details().write(out);
+				out.writeLong(entry.getValue().duration());
+			}
+		}
+
+		/**
+		 * Reads reports written by {@link #write(DataOutput, Map)}.
+		 *
+		 * @param in the input to read from
+		 * @param detailsReader the reader of the details of the reports
+		 * @param <T> the type of the details of the reports
+		 * @return the reports keyed by the path of their file, in the order they were written
+		 * @throws IOException if the reports could not be read
+		 */
+		public static <T extends Details> Map<String, Report<T>> read(DataInput in, Details.Reader<T> detailsReader)
+				throws IOException {
+			int count = in.readInt();
+			var reports = new LinkedHashMap<String, Report<T>>(count);
+
+			for (int i = 0; i < count; i++) {
+				String path = in.readUTF();
+				int logCount = in.readInt();
+				var logs = new ArrayList<String>(logCount);
+
+				for (int j = 0; j < logCount; j++) {
+					logs.add(in.readUTF());
+				}
+
+				T details = detailsReader.read(in);
+				reports.put(path, new Report<>(logs, details, in.readLong()));
+			}
+
+			return reports;
+		}
+
+		public interface Details {
+			/**
+			 * Writes these details in a compact binary format.
+			 *
+			 * @param out the output to write to
+			 * @throws IOException if the details could not be written
+			 */
+			void write(DataOutput out) throws IOException;
+
+			@FunctionalInterface
+			interface Reader<T extends Details> {
+				/**
+				 * Reads details written by {@link Details#write(DataOutput)}.
+				 *
+				 * @param in the input to read from
+				 * @return the details
+				 * @throws IOException if the details could not be read
+				 */
+				T read(DataInput in) throws IOException;
+			}
+		}
 
 		public record NoDetails() implements Details {
 			public static final NoDetails INSTANCE = new NoDetails();
+
+			@Override
+			public void write(DataOutput out) {
+			}
 		}
 	}
 
 	public interface Parameters extends WorkParameters {
-		RegularFileProperty getSourceFile();
+		/**
+		 * {@return the source files processed by this work action, in order}
+		 *
+		 * @since 4.1.0
+		 */
+		ConfigurableFileCollection getSourceFiles();
 
 		/**
-		 * {@return the license header property to use for this work action}
+		 * {@return the license header property to use for this work action,
+		 * if it cannot be found in the configuration service}
 		 */
 		Property<LicenseHeader> getLicenseHeader();
 
 		/**
-		 * {@return the header comment manager property}
+		 * {@return the header comment manager property, if it cannot be found in the configuration service}
 		 */
 		Property<HeaderCommentManager> getHeaderCommentManager();
 
+		/**
+		 * {@return the service in which the license header and header comment manager have been registered}
+		 *
+		 * @since 4.1.0
+		 */
+		Property<WorkConfigurationService> getConfigurationService();
+
+		/**
+		 * {@return the fingerprint under which the license header and header comment manager have been registered}
+		 *
+		 * @see WorkConfigurationService#register(LicenseHeader, HeaderCommentManager)
+		 * @since 4.1.0
+		 */
+		Property<String> getConfigurationKey();
+
 		/**
 		 * {@return the root directory path property}
 		 */
@@ -161,8 +530,71 @@ public abstract class LicenseWorkAction
 		 */
 		Property<Boolean> getFailOnMissingHeaderCommentHandler();
 
+		/**
+		 * {@return the Git service shared by the tasks of this build}
+		 *
+		 * @since 4.1.0
+		 */
+		Property<GitRepositoryService> getGitService();
+
+		/**
+		 * {@return the directory in which Git-related data is kept between builds,
+		 * used to open the Git repository in the work action itself if the Git service is not available}
+		 *
+		 * @since 4.1.0
+		 */
+		Property<String> getGitCacheDirectory();
+
+		/**
+		 * {@return the maximum number of files compared to detect renames in a single commit}
+		 *
+		 * @see RepositoryOptions#renameLimit()
+		 * @since 4.1.0
+		 */
+		Property<Integer> getGitRenameLimit();
+
+		/**
+		 * {@return {@code true} if Git history walks should use a commit-graph, or {@code false} otherwise}
+		 *
+		 * @see RepositoryOptions#commitGraph()
+		 * @since 4.1.0
+		 */
+		Property<Boolean> getGitCommitGraph();
+
+		/**
+		 * {@return the backend used to read the Git history}
+		 *
+		 * @see RepositoryOptions#backend()
+		 * @since 4.1.0
+		 */
+		Property<LicenseYearBackend> getYearBackend();
+
+		/**
+		 * {@return the service to submit the reports to, or an absent value to write them to the report file instead}
+		 *
+		 * @since 4.1.0
+		 */
+		Property<WorkReportService> getReportService();
+
+		/**
+		 * {@return the file in which the reports of the source files are written, keyed by their path}
+		 */
 		RegularFileProperty getReportFile();
 
 		Property<Boolean> getDebugMode();
+
+		/**
+		 * {@return the maximum number of source files of the batch read or written at once}
+		 *
+		 * @since 4.1.0
+		 */
+		Property<Integer> getFileConcurrency();
+
+		/**
+		 * {@return the maximum number of source files of the batch formatted at once}
+		 *
+		 * @since 4.1.0
+		 */
+		Property<Integer> getTransformConcurrency();
 	}
 }
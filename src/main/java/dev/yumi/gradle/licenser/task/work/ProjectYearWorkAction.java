@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.task.work;
+
+import dev.yumi.gradle.licenser.impl.git.GitRepositories;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.workers.WorkAction;
+import org.gradle.workers.WorkParameters;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Represents the work action which resolves the modification year of a project in a worker process,
+ * so that the Git repository is never opened in the Gradle daemon when files are processed in worker processes.
+ *
+ * @author LambdAurora
+ * @version 4.1.0
+ * @since 4.1.0
+ */
+@ApiStatus.Internal
+public abstract class ProjectYearWorkAction implements WorkAction<ProjectYearWorkAction.Parameters> {
+	@Override
+	public void execute() {
+		var params = this.getParameters();
+		Path rootPath = Path.of(params.getRootDirectory().get());
+		int year;
+
+		try (var repositories = new GitRepositories()) {
+			year = repositories.getModificationYear(rootPath, rootPath);
+		}
+
+		try (var out = new DataOutputStream(Files.newOutputStream(params.getOutputFile().get().getAsFile().toPath()))) {
+			out.writeInt(year);
+		} catch (IOException e) {
+			throw new GradleException("Failed to write the modification year of the project.", e);
+		}
+	}
+
+	/**
+	 * Reads the year written by this work action.
+	 *
+	 * @param file the output file of the work action
+	 * @return the modification year of the project
+	 * @throws IOException if the file could not be read
+	 */
+	public static int read(Path file) throws IOException {
+		try (var in = new DataInputStream(Files.newInputStream(file))) {
+			return in.readInt();
+		}
+	}
+
+	public interface Parameters extends WorkParameters {
+		/**
+		 * {@return the root directory of the project}
+		 */
+		Property<String> getRootDirectory();
+
+		/**
+		 * {@return the file to write the modification year of the project to}
+		 */
+		RegularFileProperty getOutputFile();
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.task.work;
+
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Provides the scheduling of source files into the batches processed by a single work action each.
+ * <p>
+ * Submitting a work item has a cost of its own, which outweighs the work done on a single file.
+ * Files are instead split into about one batch per available core.
+ * <p>
+ * Batches are balanced with the longest-processing-time-first rule: the most costly files are scheduled first,
+ * each to the batch with the lowest load so far. The cost of a file is the time it took to process it
+ * in a previous run if known, or is estimated from its size otherwise.
+ * <p>
+ * Source files are scheduled chunk by chunk while they are walked, so that work starts before the walk ends.
+ *
+ * @author LambdAurora
+ * @version 4.1.0
+ * @since 4.1.0
+ */
+@ApiStatus.Internal
+public final class WorkBatches {
+	/**
+	 * The number of files of the first chunk submitted while the source files are walked.
+	 */
+	public static final int FIRST_CHUNK_SIZE = 256;
+	/**
+	 * The maximum number of files of a chunk submitted while the source files are walked.
+	 */
+	public static final int MAX_CHUNK_SIZE = 16384;
+
+	private WorkBatches() {
+		throw new UnsupportedOperationException("WorkBatches only contains static definitions.");
+	}
+
+	/**
+	 * {@return the number of batches to split the given number of files into}
+	 *
+	 * @param fileCount the number of files
+	 */
+	public static int getBatchCount(int fileCount) {
+		return Math.max(1, Math.min(fileCount, Runtime.getRuntime().availableProcessors()));
+	}
+
+	/**
+	 * {@return the number of files of the chunk following a chunk of the given size}
+	 *
+	 * @param chunkSize the number of files of the previous chunk
+	 */
+	public static int getNextChunkSize(int chunkSize) {
+		return Math.min(MAX_CHUNK_SIZE, chunkSize * 2);
+	}
+
+	/**
+	 * Estimates the cost of processing each of the given files.
+	 * <p>
+	 * Files processed in a previous run cost the time it took to process them.
+	 * The cost of the other files is estimated from their size, at the average time per byte of the known files.
+	 *
+	 * @param files the files
+	 * @param sizeGetter the function which gets the size of a file in bytes
+	 * @param observedCostGetter the function which gets the time it took to process a file in a previous run,
+	 * or a negative value if unknown
+	 * @param <T> the type of the files
+	 * @return the costs, in the order of the files
+	 */
+	public static <T> long[] estimateCosts(List<T> files, ToLongFunction<T> sizeGetter, ToLongFunction<T> observedCostGetter) {
+		var sizes = new long[files.size()];
+		var costs = new long[files.size()];
+		long observedBytes = 0;
+		long observedTime = 0;
+
+		for (int i = 0; i < costs.length; i++) {
+			// Empty files are still read, so they count as a byte.
+			sizes[i] = Math.max(1, sizeGetter.applyAsLong(files.get(i)));
+			costs[i] = observedCostGetter.applyAsLong(files.get(i));
+
+			if (costs[i] >= 0) {
+				observedBytes += sizes[i];
+				observedTime += costs[i];
+			}
+		}
+
+		// Without any known cost, the size is the cost.
+		double timePerByte = observedBytes > 0 && observedTime > 0 ? (double) observedTime / observedBytes : 1;
+
+		for (int i = 0; i < costs.length; i++) {
+			if (costs[i] < 0) {
+				costs[i] = Math.max(1, Math.round(sizes[i] * timePerByte));
+			}
+		}
+
+		return costs;
+	}
+
+	/**
+	 * Schedules the given files into batches of similar total cost.
+	 *
+	 * @param files the files to schedule
+	 * @param costs the cost of each file, in the order of the files
+	 * @param batchCount the maximum number of batches
+	 * @param <T> the type of the files
+	 * @return the schedule, whose batches are sorted from the most to the least costly,
+	 * and whose files are sorted from the most to the least costly
+	 */
+	public static <T> Schedule<T> schedule(List<T> files, long[] costs, int batchCount) {
+		if (files.isEmpty()) {
+			return new Schedule<>(List.of(), new long[0]);
+		}
+
+		batchCount = Math.max(1, Math.min(batchCount, files.size()));
+
+		var batches = new ArrayList<List<T>>(batchCount);
+		var loads = new long[batchCount];
+		// The batches with the lowest load come first, then the ones created first.
+		var queue = new PriorityQueue<Integer>(batchCount, Comparator.<Integer>comparingLong(batch -> loads[batch])
+				.thenComparingInt(batch -> batch)
+		);
+
+		for (int i = 0; i < batchCount; i++) {
+			batches.add(new ArrayList<>());
+			queue.add(i);
+		}
+
+		// Equal costs keep the order of the files, for reproducible batches.
+		int[] order = IntStream.range(0, files.size()).boxed()
+				.sorted(Comparator.<Integer>comparingLong(i -> costs[i]).reversed().thenComparingInt(i -> i))
+				.mapToInt(Integer::intValue)
+				.toArray();
+
+		for (int i : order) {
+			int batch = queue.remove();
+			batches.get(batch).add(files.get(i));
+			loads[batch] += costs[i];
+			queue.add(batch);
+		}
+
+		// The most costly batches start first.
+		int[] batchOrder = IntStream.range(0, batchCount).boxed()
+				.sorted(Comparator.<Integer>comparingLong(batch -> loads[batch]).reversed().thenComparingInt(batch -> batch))
+				.mapToInt(Integer::intValue)
+				.toArray();
+
+		var sortedBatches = new ArrayList<List<T>>(batchCount);
+		var sortedLoads = new long[batchCount];
+
+		for (int i = 0; i < batchCount; i++) {
+			sortedBatches.add(batches.get(batchOrder[i]));
+			sortedLoads[i] = loads[batchOrder[i]];
+		}
+
+		return new Schedule<>(sortedBatches, sortedLoads);
+	}
+
+	/**
+	 * Computes the balance of the given batch loads.
+	 *
+	 * @param loads the load of each batch
+	 * @return the ratio between the highest load and the mean load, {@code 1} being a perfect balance
+	 */
+	public static double getImbalance(long[] loads) {
+		long max = 0;
+		long total = 0;
+
+		for (long load : loads) {
+			max = Math.max(max, load);
+			total += load;
+		}
+
+		return total == 0 ? 1 : (double) max * loads.length / total;
+	}
+
+	/**
+	 * Represents scheduled batches of files.
+	 *
+	 * @param batches the batches
+	 * @param loads the estimated cost of each batch
+	 * @param <T> the type of the files
+	 */
+	public record Schedule<T>(List<List<T>> batches, long[] loads) {
+		/**
+		 * {@return the ratio between the highest and the mean estimated load of the batches, {@code 1} being a perfect balance}
+		 */
+		public double imbalance() {
+			return getImbalance(this.loads);
+		}
+	}
+}
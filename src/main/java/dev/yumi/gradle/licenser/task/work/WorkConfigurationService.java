@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.task.work;
+
+import dev.yumi.gradle.licenser.api.comment.HeaderCommentManager;
+import dev.yumi.gradle.licenser.impl.LicenseHeader;
+import org.gradle.api.invocation.Gradle;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Represents the build service which shares the license headers and header comment managers of the tasks
+ * with their work actions.
+ * <p>
+ * Work action parameters are isolated by serializing them for each work item.
+ * Instead, the configuration is registered here once per task under its fingerprint,
+ * and work actions which are not isolated only receive the fingerprint to look it up.
+ * Tasks with identical configurations share the same entry.
+ *
+ * @author LambdAurora
+ * @version 4.1.0
+ * @since 4.1.0
+ */
+@ApiStatus.Internal
+public abstract class WorkConfigurationService implements BuildService<BuildServiceParameters.None> {
+	/**
+	 * The name under which this service is registered.
+	 */
+	public static final String NAME = "yumiGradleLicenserWorkConfigurations";
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * Registers this service to the given build if it isn't already registered.
+	 *
+	 * @param gradle the build
+	 * @return the provider of this service
+	 */
+	public static Provider<WorkConfigurationService> register(Gradle gradle) {
+		return gradle.getSharedServices().registerIfAbsent(NAME, WorkConfigurationService.class, spec -> {});
+	}
+
+	/**
+	 * Registers the given configuration, if no identical configuration has been registered yet.
+	 *
+	 * @param licenseHeader the license header
+	 * @param headerCommentManager the header comment manager
+	 * @return the fingerprint of the configuration, to look it up with
+	 */
+	public String register(LicenseHeader licenseHeader, HeaderCommentManager headerCommentManager) {
+		String fingerprint = fingerprint(licenseHeader, headerCommentManager);
+		this.entries.putIfAbsent(fingerprint, new Entry(licenseHeader, headerCommentManager));
+		return fingerprint;
+	}
+
+	/**
+	 * Gets the configuration registered under the given fingerprint.
+	 *
+	 * @param fingerprint the fingerprint of the configuration
+	 * @return the configuration, or {@code null} if none has been registered under the given fingerprint
+	 */
+	public @Nullable Entry get(String fingerprint) {
+		return this.entries.get(fingerprint);
+	}
+
+	/**
+	 * Computes the fingerprint of the given configuration, from the serialized form it would be isolated with.
+	 *
+	 * @param licenseHeader the license header
+	 * @param headerCommentManager the header comment manager
+	 * @return the fingerprint
+	 */
+	public static String fingerprint(LicenseHeader licenseHeader, HeaderCommentManager headerCommentManager) {
+		var bytes = new ByteArrayOutputStream();
+
+		try (var out = new ObjectOutputStream(bytes)) {
+			out.writeObject(licenseHeader);
+			out.writeObject(headerCommentManager);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not serialize the license configuration.", e);
+		}
+
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes.toByteArray()));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 should be supported by every Java platform.", e);
+		}
+	}
+
+	/**
+	 * Represents a registered configuration.
+	 *
+	 * @param licenseHeader the license header
+	 * @param headerCommentManager the header comment manager
+	 */
+	public record Entry(LicenseHeader licenseHeader, HeaderCommentManager headerCommentManager) {}
+}
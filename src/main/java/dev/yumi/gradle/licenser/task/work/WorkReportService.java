@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.task.work;
+
+import dev.yumi.gradle.licenser.task.work.LicenseWorkAction.Report;
+import org.gradle.api.invocation.Gradle;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.Nullable;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Represents the build service through which work actions hand their reports back to the task which submitted them.
+ * <p>
+ * Work actions which are not isolated share the memory of the build, so their reports are collected here
+ * instead of being written to their report files.
+ * A batch is identified by its report file, which is only written if this service is not available to the work action.
+ * <p>
+ * The reports of a batch are either handed to the consumer expecting them, as soon as the batch is processed,
+ * or kept until they are taken.
+ *
+ * @author LambdAurora
+ * @version 4.1.0
+ * @since 4.1.0
+ */
+@ApiStatus.Internal
+public abstract class WorkReportService implements BuildService<BuildServiceParameters.None> {
+	/**
+	 * The name under which this service is registered.
+	 */
+	public static final String NAME = "yumiGradleLicenserWorkReports";
+
+	private final Map<Path, Map<String, Report<?>>> reports = new ConcurrentHashMap<>();
+	private final Map<Path, Consumer<Map<String, Report<?>>>> consumers = new ConcurrentHashMap<>();
+
+	/**
+	 * Registers this service to the given build if it isn't already registered.
+	 *
+	 * @param gradle the build
+	 * @return the provider of this service
+	 */
+	public static Provider<WorkReportService> register(Gradle gradle) {
+		return gradle.getSharedServices().registerIfAbsent(NAME, WorkReportService.class, spec -> {});
+	}
+
+	/**
+	 * Submits the reports of a batch.
+	 *
+	 * @param reportFile the report file which identifies the batch
+	 * @param reports the reports of the files of the batch, keyed by their path
+	 */
+	public void submit(Path reportFile, Map<String, Report<?>> reports) {
+		var consumer = this.consumers.remove(reportFile);
+
+		if (consumer != null) {
+			consumer.accept(reports);
+		} else {
+			this.reports.put(reportFile, reports);
+		}
+	}
+
+	/**
+	 * Expects the reports of a batch, which are then handed to the given consumer as soon as they are submitted
+	 * instead of being kept until they are taken.
+	 * <p>
+	 * The consumer is called from the thread of the work action, and isn't called at all
+	 * if the work action writes its reports to the report file instead.
+	 *
+	 * @param reportFile the report file which identifies the batch
+	 * @param consumer the consumer of the reports of the files of the batch, keyed by their path
+	 */
+	public void expect(Path reportFile, Consumer<Map<String, Report<?>>> consumer) {
+		this.consumers.put(reportFile, consumer);
+	}
+
+	/**
+	 * Takes the reports of a batch, which are then removed from this service along with their expected consumer.
+	 *
+	 * @param reportFile the report file which identifies the batch
+	 * @return the reports of the files of the batch keyed by their path, or {@code null} if none have been submitted
+	 */
+	public @Nullable Map<String, Report<?>> take(Path reportFile) {
+		this.consumers.remove(reportFile);
+		return this.reports.remove(reportFile);
+	}
+
+	/**
+	 * Discards the reports of the given batches if they have been submitted, along with their expected consumers.
+	 *
+	 * @param reportFiles the report files which identify the batches
+	 */
+	public void discard(Collection<Path> reportFiles) {
+		for (var reportFile : reportFiles) {
+			this.reports.remove(reportFile);
+			this.consumers.remove(reportFile);
+		}
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.task.work;
+
+import dev.yumi.gradle.licenser.impl.ByteScanner;
+import org.gradle.process.JavaForkOptions;
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.Nullable;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Provides the configuration of the worker processes used when work actions run in process isolation.
+ * <p>
+ * Gradle keeps worker processes alive between builds and reuses them for work requiring the same fork options,
+ * so the options must only depend on the configuration to keep reusing warm worker processes.
+ * <p>
+ * The start of a new worker process is sped up by an AppCDS archive of the classes it loads,
+ * which is created by the first worker process and kept in the build directory of the root project.
+ *
+ * @author LambdAurora
+ * @version 4.1.0
+ * @since 4.1.0
+ */
+@ApiStatus.Internal
+public final class WorkerProcesses {
+	/**
+	 * The default maximum heap size of worker processes.
+	 */
+	public static final String DEFAULT_MAX_HEAP_SIZE = "512m";
+	/**
+	 * The first Java version which can create a dynamic AppCDS archive when it's missing or outdated.
+	 */
+	private static final int AUTO_CREATE_ARCHIVE_VERSION = 19;
+
+	private WorkerProcesses() {
+		throw new UnsupportedOperationException("WorkerProcesses only contains static definitions.");
+	}
+
+	/**
+	 * Configures the fork options of worker processes.
+	 *
+	 * @param options the fork options
+	 * @param maxHeapSize the maximum heap size of worker processes
+	 * @param cacheDirectory the directory in which to keep the AppCDS archive, or {@code null} to disable it
+	 */
+	public static void configure(JavaForkOptions options, String maxHeapSize, @Nullable Path cacheDirectory) {
+		options.setMaxHeapSize(maxHeapSize);
+
+		if (cacheDirectory != null) {
+			// Worker processes run on the same Java runtime as the Gradle daemon.
+			Path archive = cacheDirectory.resolve(getArchiveFileName(System.getProperty("java.vm.version")));
+			options.jvmArgs(getClassDataSharingArguments(archive, Runtime.version().feature(), Files.isRegularFile(archive)));
+		}
+
+		if (ByteScanner.get().isVectorized()) {
+			// Worker processes scan sources the same way as the Gradle daemon.
+			options.jvmArgs("--add-modules=" + ByteScanner.VECTOR_MODULE);
+			options.systemProperty(ByteScanner.VECTOR_PROPERTY, true);
+		}
+	}
+
+	/**
+	 * {@return the name of the AppCDS archive file for the given Java runtime, as archives are specific to it}
+	 *
+	 * @param vmVersion the version of the Java virtual machine
+	 */
+	static String getArchiveFileName(String vmVersion) {
+		return "worker_classes-" + vmVersion.replaceAll("[^A-Za-z0-9._-]", "_") + ".jsa";
+	}
+
+	/**
+	 * Gets the JVM arguments which make a worker process use the given AppCDS archive, creating it if needed.
+	 *
+	 * @param archive the AppCDS archive file
+	 * @param javaVersion the feature version of the Java runtime of the worker process
+	 * @param archiveExists {@code true} if the archive file already exists, or {@code false} otherwise
+	 * @return the JVM arguments
+	 */
+	public static List<String> getClassDataSharingArguments(Path archive, int javaVersion, boolean archiveExists) {
+		// An unusable archive is ignored, the messages of the JVM about it are silenced.
+		String silence = "-Xlog:cds*=off";
+
+		if (javaVersion >= AUTO_CREATE_ARCHIVE_VERSION) {
+			return List.of(silence, "-XX:SharedArchiveFile=" + archive, "-XX:+AutoCreateSharedArchive");
+		} else if (archiveExists) {
+			return List.of(silence, "-XX:SharedArchiveFile=" + archive);
+		} else {
+			// The archive is written once the worker process exits, which happens when the Gradle daemon stops.
+			return List.of(silence, "-XX:ArchiveClassesAtExit=" + archive);
+		}
+	}
+}
@@ -10,9 +10,11 @@ package dev.yumi.gradle.licenser.util;
 
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.diff.DiffConfig;
 import org.eclipse.jgit.diff.DiffEntry;
 import org.eclipse.jgit.diff.DiffFormatter;
 import org.eclipse.jgit.lib.*;
+import org.eclipse.jgit.revwalk.FollowFilter;
 import org.eclipse.jgit.revwalk.RevCommit;
 import org.eclipse.jgit.revwalk.RevTree;
 import org.eclipse.jgit.revwalk.RevWalk;
@@ -35,7 +37,7 @@ import java.util.TimeZone;
 /**
  * Provides various Git-related utilities.
  *
- * @version 2.0.0
+ * @version 4.1.0
  * @since 1.0.0
  */
 @ApiStatus.Internal
@@ -44,7 +46,13 @@ public final class GitUtils {
 		throw new UnsupportedOperationException("GitUtils only contains static definitions.");
 	}
 
-	private static @NotNull String getStandardizedPath(@NotNull Path path) {
+	/**
+	 * Converts the given path into the form used by Git to identify paths in trees.
+	 *
+	 * @param path the path, relative to the repository root
+	 * @return the standardized path
+	 */
+	public static @NotNull String getStandardizedPath(@NotNull Path path) {
 		String strValue = path.toString();
 
 		if (!path.getFileSystem().getSeparator().equals("/")) {
@@ -54,8 +62,18 @@ public final class GitUtils {
 		return strValue;
 	}
 
+	/**
+	 * Gets the root directory of the working tree of the given repository.
+	 *
+	 * @param repository the repository
+	 * @return the root directory of the working tree
+	 */
+	public static Path getRepoRoot(Repository repository) {
+		return repository.getDirectory().toPath().getParent();
+	}
+
 	private static Path getRepoRoot(Git git) {
-		return git.getRepository().getDirectory().toPath().getParent();
+		return getRepoRoot(git.getRepository());
 	}
 
 	private static @Nullable AbstractTreeIterator prepareTreeParser(Repository repository, String ref) throws IOException {
@@ -131,15 +149,34 @@ public final class GitUtils {
 		}
 	}
 
-	private static int getLatestCommitYear(Git git, Path path) {
+	/**
+	 * Gets the year in which the given commit has been authored, in the time zone of its author.
+	 *
+	 * @param commit the commit, whose body must be parsed
+	 * @return the year of the commit
+	 * @since 4.1.0
+	 */
+	public static int getCommitYear(@NotNull RevCommit commit) {
+		PersonIdent authorIdent = commit.getAuthorIdent();
+		Instant instant = authorIdent.getWhenAsInstant();
+		TimeZone authorTimeZone = authorIdent.getTimeZone();
+
+		return instant.atZone(authorTimeZone.toZoneId()).getYear();
+	}
+
+	/**
+	 * Gets the year in which the given path got last committed.
+	 *
+	 * @param git the Git instance
+	 * @param path the path, relative to the repository root
+	 * @return the year of the latest commit of the path, or the current year if it has never been committed
+	 * @since 4.1.0
+	 */
+	public static int getLatestCommitYear(@NotNull Git git, @NotNull Path path) {
 		RevCommit latestCommit = getLatestCommit(git, path);
 
 		if (latestCommit != null) {
-			PersonIdent authorIdent = latestCommit.getAuthorIdent();
-			Instant instant = authorIdent.getWhenAsInstant();
-			TimeZone authorTimeZone = authorIdent.getTimeZone();
-
-			return instant.atZone(authorTimeZone.toZoneId()).getYear();
+			return getCommitYear(latestCommit);
 		}
 
 		return Calendar.getInstance().get(Calendar.YEAR);
@@ -153,19 +190,101 @@ public final class GitUtils {
 	 * @return the latest modified year
 	 */
 	public static int getModificationYear(@NotNull Path rootDir, @NotNull Path path) {
-		try (var git = Git.open(rootDir.toFile())) {
-			Path repoRoot = getRepoRoot(git);
-			path = repoRoot.relativize(path);
-			var pathString = getStandardizedPath(path);
+		return getModificationYear(rootDir, path, GitUtils::getLatestCommitYear);
+	}
 
-			var formatter = new DiffFormatter(System.out);
-			formatter.setRepository(git.getRepository());
+	/**
+	 * Gets the latest modified year of the given path in the Git history.
+	 *
+	 * @param rootDir the root directory of the project
+	 * @param path the file path to check the latest modified year of
+	 * @param historyLookup the lookup of the year of the latest commit of the path if it is not modified in the working tree
+	 * @return the latest modified year
+	 * @since 4.1.0
+	 */
+	public static int getModificationYear(
+			@NotNull Path rootDir, @NotNull Path path, @NotNull HistoryYearLookup historyLookup
+	) {
+		try (var git = Git.open(rootDir.toFile())) {
 			AbstractTreeIterator commitTreeIterator = prepareTreeParser(git.getRepository(), Constants.HEAD);
 
-			if (commitTreeIterator == null) {
-				return getLatestCommitYear(git, path);
+			return getModificationYear(git, commitTreeIterator, path, historyLookup);
+		} catch (IOException | GradleException e) {
+			// ignored
+		}
+
+		return Calendar.getInstance().get(Calendar.YEAR);
+	}
+
+	/**
+	 * Gets the year in which the given path got first committed in the Git history, following its renames.
+	 * <p>
+	 * If the project is not a Git repository, the creation year is read from the file attributes instead.
+	 *
+	 * @param rootDir the root directory of the project
+	 * @param path the file path to check the creation year of
+	 * @return the creation year, or the current year if the path has never been committed
+	 * @throws IOException if the history or the file attributes could not be read
+	 * @since 4.1.0
+	 */
+	public static int getCreationYear(@NotNull Path rootDir, @NotNull Path path) throws IOException {
+		Git git;
+
+		try {
+			git = Git.open(rootDir.toFile());
+		} catch (IOException e) {
+			return Utils.getFileCreationYear(path);
+		}
+
+		try (git; var walk = new RevWalk(git.getRepository())) {
+			ObjectId head = git.getRepository().resolve(Constants.HEAD);
+
+			if (head == null) {
+				return Calendar.getInstance().get(Calendar.YEAR);
+			}
+
+			var pathString = getStandardizedPath(getRepoRoot(git).relativize(path.toAbsolutePath()));
+			walk.setTreeFilter(FollowFilter.create(pathString, git.getRepository().getConfig().get(DiffConfig.KEY)));
+			walk.markStart(walk.parseCommit(head));
+
+			RevCommit first = null;
+
+			for (var commit : walk) {
+				first = commit;
 			}
 
+			return first != null ? getCommitYear(first) : Calendar.getInstance().get(Calendar.YEAR);
+		}
+	}
+
+	/**
+	 * Gets the latest modified year of the given path in the Git history of an already opened repository.
+	 *
+	 * @param git the Git instance
+	 * @param commitTreeIterator the iterator over the tree of {@code HEAD}, or {@code null} if there is no commit yet
+	 * @param path the file path to check the latest modified year of
+	 * @param historyLookup the lookup of the year of the latest commit of the path if it is not modified in the working tree
+	 * @return the latest modified year
+	 * @throws IOException if the working tree or the history could not be read
+	 * @since 4.1.0
+	 */
+	public static int getModificationYear(
+			@NotNull Git git,
+			@Nullable AbstractTreeIterator commitTreeIterator,
+			@NotNull Path path,
+			@NotNull HistoryYearLookup historyLookup
+	) throws IOException {
+		Path repoRoot = getRepoRoot(git);
+		path = repoRoot.relativize(path);
+		var pathString = getStandardizedPath(path);
+
+		if (commitTreeIterator == null) {
+			return historyLookup.getLatestCommitYear(git, path);
+		}
+
+		try (var formatter = new DiffFormatter(System.out)) {
+			formatter.setRepository(git.getRepository());
+
 			var workTreeIterator = new FileTreeIterator(git.getRepository());
 			List<DiffEntry> diffEntries = formatter.scan(commitTreeIterator, workTreeIterator);
 
@@ -174,12 +293,26 @@ public final class GitUtils {
 					return Calendar.getInstance().get(Calendar.YEAR);
 				}
 			}
-
-			return getLatestCommitYear(git, path);
-		} catch (IOException | GradleException e) {
-			// ignored
 		}
 
-		return Calendar.getInstance().get(Calendar.YEAR);
+		return historyLookup.getLatestCommitYear(git, path);
+	}
+
+	/**
+	 * Represents a lookup of the year in which a path got last committed.
+	 *
+	 * @since 4.1.0
+	 */
+	@FunctionalInterface
+	public interface HistoryYearLookup {
+		/**
+		 * Gets the year in which the given path got last committed.
+		 *
+		 * @param git the Git instance
+		 * @param path the path, relative to the repository root
+		 * @return the year of the latest commit of the path, or the current year if it has never been committed
+		 * @throws IOException if the history could not be read
+		 */
+		int getLatestCommitYear(@NotNull Git git, @NotNull Path path) throws IOException;
 	}
 }
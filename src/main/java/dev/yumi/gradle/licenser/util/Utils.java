@@ -10,6 +10,7 @@ package dev.yumi.gradle.licenser.util;
 
 import dev.yumi.gradle.licenser.YumiLicenserGradleExtension;
 import dev.yumi.gradle.licenser.YumiLicenserGradlePlugin;
+import dev.yumi.gradle.licenser.impl.ByteScanner;
 import org.gradle.api.GradleException;
 import org.gradle.api.Project;
 import org.jetbrains.annotations.ApiStatus;
@@ -18,6 +19,10 @@ import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Range;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -25,6 +30,7 @@ import java.nio.file.attribute.BasicFileAttributes;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -32,7 +38,7 @@ import java.util.function.Predicate;
  * Provides various utilities.
  *
  * @author LambdAurora
- * @version 2.0.0
+ * @version 4.1.0
  * @since 1.0.0
  */
 @ApiStatus.Internal
@@ -82,6 +88,155 @@ public final class Utils {
 				&& source.charAt(index) != unexpected;
 	}
 
+	/**
+	 * Finds the first index of the given byte in a UTF-8 encoded source.
+	 *
+	 * @param source the source, whose content is between {@code 0} and its limit
+	 * @param value the byte to find
+	 * @param from the index to start searching from
+	 * @return the index of the byte if found, or {@code -1} otherwise
+	 * @see ByteScanner
+	 * @since 4.1.0
+	 */
+	public static int indexOf(ByteBuffer source, byte value, int from) {
+		return ByteScanner.get().indexOf(source, value, from);
+	}
+
+	/**
+	 * Finds the first index of the given bytes in a UTF-8 encoded source.
+	 *
+	 * @param source the source, whose content is between {@code 0} and its limit
+	 * @param pattern the bytes to find, which must not be empty
+	 * @param from the index to start searching from
+	 * @return the index of the bytes if found, or {@code -1} otherwise
+	 * @since 4.1.0
+	 */
+	public static int indexOf(ByteBuffer source, byte[] pattern, int from) {
+		int lastIndex = pattern.length - 1;
+		// The last byte of delimiters, like the slash of "*/", is rarer than their first one within comments.
+		byte last = pattern[lastIndex];
+
+		search:
+		for (int i = indexOf(source, last, Math.max(0, from) + lastIndex); i != -1; i = indexOf(source, last, i + 1)) {
+			int start = i - lastIndex;
+
+			for (int j = 0; j < lastIndex; j++) {
+				if (source.get(start + j) != pattern[j]) {
+					continue search;
+				}
+			}
+
+			return start;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Skips the ASCII whitespace characters of a UTF-8 encoded source.
+	 *
+	 * @param source the source, whose content is between {@code 0} and its limit
+	 * @param from the index to start skipping from
+	 * @return the index of the first byte which isn't ASCII whitespace, or the limit of the source
+	 * @see Character#isWhitespace(char)
+	 * @since 4.1.0
+	 */
+	public static int skipAsciiWhitespace(ByteBuffer source, int from) {
+		int i = Math.max(0, from);
+
+		while (i < source.limit()) {
+			byte b = source.get(i);
+
+			// Non-ASCII bytes are negative.
+			if (b < 0 || !Character.isWhitespace((char) b)) {
+				break;
+			}
+
+			i++;
+		}
+
+		return i;
+	}
+
+	/**
+	 * Extracts the line separator used in a UTF-8 encoded source, from its first line.
+	 *
+	 * @param source the source, whose content is between {@code 0} and its limit
+	 * @param complete {@code true} if the source is whole, or {@code false} if it is only its start
+	 * @return the line separator, or {@code null} if the first line ends past the start of the source
+	 * @see dev.yumi.gradle.licenser.api.comment.HeaderComment#extractLineSeparator(String)
+	 * @since 4.1.0
+	 */
+	public static @Nullable String extractLineSeparator(ByteBuffer source, boolean complete) {
+		int i = indexOf(source, (byte) '\n', 0);
+
+		if (i != -1) {
+			return i != 0 && source.get(i - 1) == '\r' ? "\r\n" : "\n";
+		}
+
+		return complete ? System.lineSeparator() : null;
+	}
+
+	/**
+	 * Decodes a part of a UTF-8 encoded source.
+	 *
+	 * @param source the source, whose content is between {@code 0} and its limit
+	 * @param from the index of the first byte to decode
+	 * @param to the index after the last byte to decode
+	 * @param endOfInput {@code true} if the part ends the source,
+	 * or {@code false} if a character cut at its end should be left undecoded
+	 * @return the decoded part
+	 * @throws CharacterCodingException if the part isn't valid UTF-8
+	 * @since 4.1.0
+	 */
+	public static String decodeUtf8(ByteBuffer source, int from, int to, boolean endOfInput)
+			throws CharacterCodingException {
+		var decoder = StandardCharsets.UTF_8.newDecoder();
+		// UTF-8 never decodes to more characters than bytes.
+		var chars = CharBuffer.allocate(to - from);
+		var result = decoder.decode(source.duplicate().limit(to).position(from), chars, endOfInput);
+
+		if (result.isError()) {
+			result.throwException();
+		}
+
+		if (endOfInput) {
+			decoder.flush(chars);
+		}
+
+		return chars.flip().toString();
+	}
+
+	/**
+	 * Computes the length in bytes of the start of a string once encoded in UTF-8.
+	 *
+	 * @param source the string
+	 * @param end the index of the end of the start of the string
+	 * @return the length in bytes
+	 * @since 4.1.0
+	 */
+	public static int getUtf8Length(CharSequence source, int end) {
+		int length = 0;
+
+		for (int i = 0; i < end; i++) {
+			char c = source.charAt(i);
+
+			if (c < 0x80) {
+				length += 1;
+			} else if (c < 0x800) {
+				length += 2;
+			} else if (Character.isHighSurrogate(c) && i + 1 < end) {
+				// Encoded along with the following low surrogate.
+				length += 4;
+				i++;
+			} else {
+				length += 3;
+			}
+		}
+
+		return length;
+	}
+
 	/**
 	 * Attempts to read an integer from the given string at the given index.
 	 *
@@ -156,6 +311,30 @@ public final class Utils {
 		return null;
 	}
 
+	/**
+	 * Deletes the given directory along with everything it contains, if it exists.
+	 *
+	 * @param directory the directory to delete
+	 * @throws IOException if the directory could not be deleted
+	 * @since 4.1.0
+	 */
+	public static void deleteRecursively(Path directory) throws IOException {
+		if (!Files.exists(directory)) {
+			return;
+		}
+
+		List<Path> paths;
+
+		try (var stream = Files.walk(directory)) {
+			// Deepest paths first, so that each directory is empty once it is deleted.
+			paths = stream.sorted(Comparator.reverseOrder()).toList();
+		}
+
+		for (var path : paths) {
+			Files.deleteIfExists(path);
+		}
+	}
+
 	/**
 	 * Gets the project creation year for the given project.
 	 *
@@ -176,13 +355,23 @@ public final class Utils {
 		}
 
 		try {
-			Instant instant = Files.readAttributes(project.getProjectDir().toPath(), BasicFileAttributes.class).creationTime().toInstant();
-			LocalDate localDate = LocalDate.ofInstant(instant, ZoneId.systemDefault());
-			int localCreationYear = localDate.getYear();
-
-			return localCreationYear;
+			return getFileCreationYear(project.getProjectDir().toPath());
 		} catch (IOException e) {
 			throw new GradleException("Could not read creation year of the root project directory.");
 		}
 	}
+
+	/**
+	 * Gets the year in which the given file got created according to the file system.
+	 *
+	 * @param path the path to the file
+	 * @return the creation year
+	 * @throws IOException if the file attributes cannot be read
+	 * @since 4.1.0
+	 */
+	public static int getFileCreationYear(Path path) throws IOException {
+		Instant instant = Files.readAttributes(path, BasicFileAttributes.class).creationTime().toInstant();
+		LocalDate localDate = LocalDate.ofInstant(instant, ZoneId.systemDefault());
+		return localDate.getYear();
+	}
 }
@@ -16,6 +16,7 @@ import dev.yumi.gradle.licenser.api.rule.token.VarToken;
 import dev.yumi.gradle.licenser.api.rule.variable.VariableType;
 import org.junit.jupiter.api.Test;
 
+import java.util.Calendar;
 import java.util.Collections;
 import java.util.List;
 
@@ -194,4 +195,19 @@ public class HeaderRuleTest {
 			), rule);
 		});
 	}
+
+	@Test
+	public void testRequiresYearLookup() {
+		assertDoesNotThrow(() -> {
+			int currentYear = Calendar.getInstance().get(Calendar.YEAR);
+			var rule = HeaderRule.parse("Test", List.of(
+					"#type YEAR YEAR_LENIENT_RANGE",
+					"Copyright ${YEAR} Test, ${" + VariableType.FILE_NAME_VAR_NAME + "}"
+			));
+
+			assertTrue(rule.requiresYearLookup(rule.parseHeader(List.of())));
+			assertTrue(rule.requiresYearLookup(rule.parseHeader(List.of("Copyright 2020 Test, Test.java"))));
+			assertFalse(rule.requiresYearLookup(rule.parseHeader(List.of("Copyright 2020-" + currentYear + " Test, Test.java"))));
+		});
+	}
 }
@@ -11,6 +11,8 @@ package dev.yumi.gradle.licenser.test.comment;
 import dev.yumi.gradle.licenser.api.comment.CStyleHeaderComment;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -62,6 +64,57 @@ class CStyleHeaderCommentTest {
 		assertEquals("Smol", result.existing().get(0));
 	}
 
+	@Test
+	void testCHeaderParsingFromStart() {
+		for (var source : List.of(
+				"/*\n * Sample License Header\n */\n\nint main() {}\n",
+				"\n\n/* Smol */\nint main() {}\n",
+				"/** Documentation. */\nint main() {}\n",
+				"#include <stdio.h>\n"
+		)) {
+			var expected = CStyleHeaderComment.INSTANCE.readHeaderComment(source);
+			assertEquals(expected, CStyleHeaderComment.INSTANCE.readHeaderCommentFromStart(source, true));
+
+			for (int length = 0; length < source.length(); length++) {
+				var result = CStyleHeaderComment.INSTANCE.readHeaderCommentFromStart(source.substring(0, length), false);
+
+				if (result != null) {
+					assertEquals(expected, result, "The start of the source should be read like the whole source.");
+				}
+			}
+		}
+	}
+
+	@Test
+	void testCHeaderParsingFromBytes() throws Exception {
+		for (var source : List.of(
+				"/*\n * Sample License Header \u00e9\n */\n\nint main() {}\n",
+				"\r\n\t/* Smol \ud83d\ude00*/\r\nint main() {}\r\n",
+				"/** Documentation. */\nint main() {}\n",
+				"\u3000/* Ideographic space. */\nint main() {}\n",
+				"/* Unterminated\n",
+				"#include <stdio.h>\n"
+		)) {
+			var expected = CStyleHeaderComment.INSTANCE.readHeaderComment(source);
+			byte[] bytes = source.getBytes(StandardCharsets.UTF_8);
+
+			for (int length = 0; length <= bytes.length; length++) {
+				boolean complete = length == bytes.length;
+				var result = CStyleHeaderComment.INSTANCE.readHeaderComment(ByteBuffer.wrap(bytes, 0, length).slice(), complete);
+
+				if (result == null) {
+					assertFalse(complete, "The whole source should always be read.");
+					continue;
+				}
+
+				assertEquals(expected.existing(), result.existing());
+				assertEquals(expected.separator(), result.separator());
+				assertEquals(source.substring(0, expected.start()).getBytes(StandardCharsets.UTF_8).length, result.start());
+				assertEquals(source.substring(0, expected.end()).getBytes(StandardCharsets.UTF_8).length, result.end());
+			}
+		}
+	}
+
 	@Test
 	void testCHeaderParsingNone() {
 		var result = CStyleHeaderComment.INSTANCE.readHeaderComment("""
@@ -11,6 +11,7 @@ package dev.yumi.gradle.licenser.test.comment
 import dev.yumi.gradle.licenser.api.comment.XmlStyleHeaderComment
 import org.junit.jupiter.api.Assertions.*
 import org.junit.jupiter.api.Test
+import java.nio.ByteBuffer
 
 class XmlStyleHeaderCommentTest {
 	@Test
@@ -103,6 +104,28 @@ class XmlStyleHeaderCommentTest {
 		assertNull(result.existing) { "Expected no result." }
 	}
 
+	@Test
+	fun `Parsing from bytes`() {
+		for (source in listOf(
+			"<!--\n\tSample License Header \u00e9\n-->\n\n<!doctype html>\n",
+			"\n  <!--\n\tSample License Header\n-->\n<html></html>\n",
+			"<!doctype html>\n<html></html>\n",
+		)) {
+			val expected = XmlStyleHeaderComment.INSTANCE.readHeaderComment(source)
+			val bytes = source.toByteArray(Charsets.UTF_8)
+
+			for (length in 0..bytes.size) {
+				val complete = length == bytes.size
+				val result = XmlStyleHeaderComment.INSTANCE.readHeaderComment(ByteBuffer.wrap(bytes, 0, length).slice(), complete)
+					?: continue
+
+				assertEquals(expected.existing, result.existing)
+				assertEquals(expected.separator, result.separator)
+				assertEquals(source.substring(0, expected.end).toByteArray(Charsets.UTF_8).size, result.end)
+			}
+		}
+	}
+
 	@Test
 	fun `Writing a header`() {
 		val expected = """
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.test.git;
+
+import dev.yumi.gradle.licenser.impl.git.GitCreationIndex;
+import dev.yumi.gradle.licenser.util.GitUtils;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.diff.DiffConfig;
+import org.eclipse.jgit.lib.Constants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GitCreationIndexTest {
+	@TempDir
+	Path repoDir;
+
+	@Test
+	void testCreationYearsFollowRenames() throws Exception {
+		try (var git = Git.init().setDirectory(this.repoDir.toFile()).call()) {
+			var repository = git.getRepository();
+			var diffConfig = repository.getConfig().get(DiffConfig.KEY);
+			var index = new GitCreationIndex();
+
+			GitTestUtils.commit(git, 2018, "a.txt");
+			GitTestUtils.commit(git, 2020, "b.txt", "a.txt");
+
+			Files.move(this.repoDir.resolve("a.txt"), this.repoDir.resolve("c.txt"));
+			git.add().addFilepattern("c.txt").call();
+			git.rm().addFilepattern("a.txt").call();
+			GitTestUtils.commitStaged(git, 2021);
+
+			try (var reader = repository.newObjectReader()) {
+				var head = repository.resolve(Constants.HEAD);
+
+				assertEquals(2018, index.getYear(reader, diffConfig, 1000, head, "c.txt"));
+				assertEquals(2020, index.getYear(reader, diffConfig, 1000, head, "b.txt"));
+				assertNull(index.getYear(reader, diffConfig, 1000, head, "a.txt"), "Renamed paths should be forgotten.");
+			}
+
+			GitTestUtils.commit(git, 2023, "d.txt");
+
+			try (var reader = repository.newObjectReader()) {
+				var head = repository.resolve(Constants.HEAD);
+
+				assertEquals(2023, index.getYear(reader, diffConfig, 1000, head, "d.txt"));
+				assertEquals(2018, index.getYear(reader, diffConfig, 1000, head, "c.txt"));
+			}
+		}
+	}
+
+	@Test
+	void testCreationYearsOfMergedBranches() throws Exception {
+		try (var git = Git.init().setDirectory(this.repoDir.toFile()).call()) {
+			var repository = git.getRepository();
+			var diffConfig = repository.getConfig().get(DiffConfig.KEY);
+			var index = new GitCreationIndex();
+
+			GitTestUtils.commit(git, 2015, "a.txt");
+			String mainBranch = repository.getBranch();
+			git.checkout().setCreateBranch(true).setName("feature").call();
+			GitTestUtils.commit(git, 2017, "b.txt");
+			git.checkout().setName(mainBranch).call();
+			GitTestUtils.commit(git, 2019, "c.txt");
+			var merge = git.merge()
+					.include(repository.resolve("feature"))
+					.setCommit(false)
+					.call();
+			assertTrue(merge.getMergeStatus().isSuccessful());
+			GitTestUtils.commitStaged(git, 2021);
+
+			index.register(List.of("a.txt", "b.txt", "c.txt"));
+
+			try (var reader = repository.newObjectReader()) {
+				var head = repository.resolve(Constants.HEAD);
+
+				assertEquals(2017, index.getYear(reader, diffConfig, 1000, head, "b.txt"),
+						"Files added in a merged branch should be created by the commit of the branch.");
+				assertEquals(2019, index.getYear(reader, diffConfig, 1000, head, "c.txt"));
+				assertEquals(2015, index.getYear(reader, diffConfig, 1000, head, "a.txt"));
+			}
+
+			for (var path : List.of("a.txt", "b.txt", "c.txt")) {
+				try (var reader = repository.newObjectReader()) {
+					assertEquals(
+							GitUtils.getCreationYear(this.repoDir, this.repoDir.resolve(path)),
+							new GitCreationIndex().getYear(
+									reader, diffConfig, 1000, repository.resolve(Constants.HEAD), path
+							),
+							"The index should agree with the direct lookup."
+					);
+				}
+			}
+		}
+	}
+
+	@Test
+	void testCreationYearsCatchUp() throws Exception {
+		try (var git = Git.init().setDirectory(this.repoDir.toFile()).call()) {
+			var repository = git.getRepository();
+			var diffConfig = repository.getConfig().get(DiffConfig.KEY);
+			var index = new GitCreationIndex();
+
+			GitTestUtils.commit(git, 2018, "a.txt", "b.txt");
+			index.register(List.of("a.txt", "b.txt"));
+
+			try (var reader = repository.newObjectReader()) {
+				assertEquals(2018, index.getYear(reader, diffConfig, 1000, repository.resolve(Constants.HEAD), "a.txt"));
+			}
+
+			Files.move(this.repoDir.resolve("b.txt"), this.repoDir.resolve("c.txt"));
+			git.add().addFilepattern("c.txt").call();
+			git.rm().addFilepattern("b.txt").call();
+			GitTestUtils.commitStaged(git, 2020);
+			GitTestUtils.commit(git, 2022, "a.txt", "d.txt");
+
+			try (var reader = repository.newObjectReader()) {
+				var head = repository.resolve(Constants.HEAD);
+
+				assertEquals(2018, index.getYear(reader, diffConfig, 1000, head, "a.txt"));
+				assertEquals(2018, index.getYear(reader, diffConfig, 1000, head, "c.txt"),
+						"Renames since the indexed commit should be followed into it.");
+				assertEquals(2022, index.getYear(reader, diffConfig, 1000, head, "d.txt"));
+				assertNull(index.getYear(reader, diffConfig, 1000, head, "b.txt"));
+			}
+		}
+	}
+
+	@Test
+	void testCreationYearsCatchUpThroughMergedBranches() throws Exception {
+		try (var git = Git.init().setDirectory(this.repoDir.toFile()).call()) {
+			var repository = git.getRepository();
+			var diffConfig = repository.getConfig().get(DiffConfig.KEY);
+			var index = new GitCreationIndex();
+
+			GitTestUtils.commit(git, 2015, "a.txt");
+			String mainBranch = repository.getBranch();
+			git.checkout().setCreateBranch(true).setName("feature").call();
+			GitTestUtils.commit(git, 2016, "a.txt");
+			git.checkout().setName(mainBranch).call();
+			GitTestUtils.commit(git, 2018, "b.txt");
+			index.register(List.of("a.txt", "b.txt"));
+
+			try (var reader = repository.newObjectReader()) {
+				assertEquals(2015, index.getYear(reader, diffConfig, 1000, repository.resolve(Constants.HEAD), "a.txt"));
+			}
+
+			// The merged file comes from a commit older than the indexed one, so its history is walked again.
+			var merge = git.merge().include(repository.resolve("feature")).setCommit(false).call();
+			assertTrue(merge.getMergeStatus().isSuccessful());
+			GitTestUtils.commitStaged(git, 2020);
+
+			try (var reader = repository.newObjectReader()) {
+				var head = repository.resolve(Constants.HEAD);
+
+				assertEquals(2015, index.getYear(reader, diffConfig, 1000, head, "a.txt"));
+				assertEquals(2018, index.getYear(reader, diffConfig, 1000, head, "b.txt"));
+			}
+		}
+	}
+}
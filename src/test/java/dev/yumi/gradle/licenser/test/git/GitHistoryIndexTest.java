@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.test.git;
+
+import dev.yumi.gradle.licenser.impl.git.GitCommitGraph;
+import dev.yumi.gradle.licenser.impl.git.GitHistoryIndex;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.ResetCommand;
+import org.eclipse.jgit.lib.Constants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GitHistoryIndexTest {
+	@TempDir
+	Path repoDir;
+
+	@Test
+	void testWalkFindsLatestYears() throws Exception {
+		try (var git = Git.init().setDirectory(this.repoDir.toFile()).call()) {
+			GitTestUtils.commit(git, 2019, "a.txt", "dir/b.txt", "c.txt");
+			GitTestUtils.commit(git, 2021, "dir/b.txt");
+			GitTestUtils.commit(git, 2023, "c.txt");
+
+			var repository = git.getRepository();
+			var years = GitHistoryIndex.walk(
+					repository, repository.resolve(Constants.HEAD), List.of("a.txt", "dir/b.txt", "c.txt", "missing.txt")
+			);
+
+			assertEquals(2019, years.get("a.txt"));
+			assertEquals(2021, years.get("dir/b.txt"));
+			assertEquals(2023, years.get("c.txt"));
+			assertEquals(GitHistoryIndex.UNTRACKED, years.get("missing.txt"));
+		}
+	}
+
+	@Test
+	void testWalkWithCommitGraph() throws Exception {
+		try (var git = Git.init().setDirectory(this.repoDir.toFile()).call()) {
+			GitTestUtils.commit(git, 2019, "a.txt", "dir/b.txt", "other/c.txt");
+			GitTestUtils.commit(git, 2021, "dir/b.txt");
+
+			for (int year = 2022; year < 2030; year++) {
+				GitTestUtils.commit(git, year, "other/c.txt");
+			}
+
+			var repository = git.getRepository();
+			var head = repository.resolve(Constants.HEAD);
+			var graphFile = this.repoDir.resolve("build/git_commit_graph.bin");
+
+			try (var reader = repository.newObjectReader()) {
+				var graph = new GitCommitGraph(repository, graphFile).get(reader, head);
+				assertNotNull(graph);
+				assertTrue(Files.isRegularFile(graphFile));
+
+				// The Bloom filters contain the directories of the changed paths, which are used to skip commits.
+				var headFilter = graph.getChangedPathFilter(graph.findGraphPosition(head));
+				assertTrue(headFilter.maybeContains("other".getBytes(StandardCharsets.UTF_8)));
+				assertFalse(headFilter.maybeContains("dir".getBytes(StandardCharsets.UTF_8)));
+
+				var years = GitHistoryIndex.walk(reader, head, null, List.of("a.txt", "dir/b.txt", "missing.txt"), graph);
+
+				assertEquals(2019, years.get("a.txt"));
+				assertEquals(2021, years.get("dir/b.txt"));
+				assertEquals(GitHistoryIndex.UNTRACKED, years.get("missing.txt"));
+			}
+		}
+	}
+
+	@Test
+	void testStaleCommitGraphIsReused() throws Exception {
+		try (var git = Git.init().setDirectory(this.repoDir.toFile()).call()) {
+			GitTestUtils.commit(git, 2019, "a.txt", "dir/b.txt");
+
+			var repository = git.getRepository();
+			var graphFile = this.repoDir.resolve("build/git_commit_graph.bin");
+
+			try (var reader = repository.newObjectReader()) {
+				assertNotNull(new GitCommitGraph(repository, graphFile).get(reader, repository.resolve(Constants.HEAD)));
+			}
+
+			long writtenAt = Files.getLastModifiedTime(graphFile).toMillis();
+			GitTestUtils.commit(git, 2021, "dir/b.txt");
+			var head = repository.resolve(Constants.HEAD);
+
+			try (var reader = repository.newObjectReader()) {
+				var graph = new GitCommitGraph(repository, graphFile).get(reader, head);
+				assertNotNull(graph);
+				assertTrue(graph.findGraphPosition(head) < 0, "A few new commits should not rewrite the commit-graph.");
+				assertEquals(writtenAt, Files.getLastModifiedTime(graphFile).toMillis());
+
+				// The new commit is diffed instead of being skipped through its Bloom filter.
+				var years = GitHistoryIndex.walk(reader, head, null, List.of("a.txt", "dir/b.txt"), graph);
+
+				assertEquals(2019, years.get("a.txt"));
+				assertEquals(2021, years.get("dir/b.txt"));
+			}
+		}
+	}
+
+	@Test
+	void testIndexOnlyAnswersRegisteredPaths() throws Exception {
+		try (var git = Git.init().setDirectory(this.repoDir.toFile()).call()) {
+			GitTestUtils.commit(git, 2020, "a.txt", "b.txt");
+			GitTestUtils.commit(git, 2022, "b.txt");
+
+			var head = git.getRepository().resolve(Constants.HEAD);
+			var index = new GitHistoryIndex();
+			index.register(List.of("a.txt"));
+
+			try (var reader = git.getRepository().newObjectReader()) {
+				assertEquals(2020, index.getYear(reader, head, "a.txt"));
+				assertNull(index.getYear(reader, head, "b.txt"), "Unregistered paths should not be indexed.");
+
+				index.register(List.of("b.txt"));
+				assertEquals(2022, index.getYear(reader, head, "b.txt"));
+			}
+		}
+	}
+
+	@Test
+	void testPersistedIndexCatchesUp() throws Exception {
+		try (var git = Git.init().setDirectory(this.repoDir.toFile()).call()) {
+			var indexFile = this.repoDir.resolve("build/git_history_index.bin");
+			GitTestUtils.commit(git, 2020, "a.txt", "b.txt");
+
+			var index = new GitHistoryIndex();
+			index.register(List.of("a.txt", "b.txt", "c.txt"));
+
+			try (var reader = git.getRepository().newObjectReader()) {
+				assertEquals(2020, index.getYear(reader, git.getRepository().resolve(Constants.HEAD), "a.txt"));
+			}
+
+			index.save(indexFile);
+
+			GitTestUtils.commit(git, 2022, "b.txt", "c.txt");
+
+			var loadedIndex = new GitHistoryIndex();
+			loadedIndex.load(indexFile);
+
+			try (var reader = git.getRepository().newObjectReader()) {
+				var head = git.getRepository().resolve(Constants.HEAD);
+
+				assertEquals(2020, loadedIndex.getYear(reader, head, "a.txt"));
+				assertEquals(2022, loadedIndex.getYear(reader, head, "b.txt"));
+				assertEquals(2022, loadedIndex.getYear(reader, head, "c.txt"));
+			}
+		}
+	}
+
+	@Test
+	void testPersistedIndexIsDiscardedOnRewrittenHistory() throws Exception {
+		try (var git = Git.init().setDirectory(this.repoDir.toFile()).call()) {
+			var indexFile = this.repoDir.resolve("build/git_history_index.bin");
+			var root = GitTestUtils.commit(git, 2018, "a.txt");
+			GitTestUtils.commit(git, 2024, "a.txt");
+
+			var index = new GitHistoryIndex();
+			index.register(List.of("a.txt"));
+
+			try (var reader = git.getRepository().newObjectReader()) {
+				assertEquals(2024, index.getYear(reader, git.getRepository().resolve(Constants.HEAD), "a.txt"));
+			}
+
+			index.save(indexFile);
+
+			git.reset().setMode(ResetCommand.ResetType.HARD).setRef(root.name()).call();
+			GitTestUtils.commit(git, 2021, "b.txt");
+
+			var loadedIndex = new GitHistoryIndex();
+			loadedIndex.load(indexFile);
+			loadedIndex.register(List.of("a.txt"));
+
+			try (var reader = git.getRepository().newObjectReader()) {
+				assertEquals(2018, loadedIndex.getYear(reader, git.getRepository().resolve(Constants.HEAD), "a.txt"));
+			}
+		}
+	}
+}
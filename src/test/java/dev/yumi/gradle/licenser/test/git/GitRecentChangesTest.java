@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.test.git;
+
+import dev.yumi.gradle.licenser.impl.git.GitRecentChanges;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Constants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GitRecentChangesTest {
+	@TempDir
+	Path repoDir;
+
+	@Test
+	void testWalkIsExtendedToEarlierYears() throws Exception {
+		try (var git = Git.init().setDirectory(this.repoDir.toFile()).call()) {
+			GitTestUtils.commit(git, 2018, "a.txt", "b.txt");
+			GitTestUtils.commit(git, 2020, "b.txt");
+			GitTestUtils.commit(git, 2022, "c.txt");
+
+			var repository = git.getRepository();
+			var head = repository.resolve(Constants.HEAD);
+
+			try (var recentChanges = new GitRecentChanges()) {
+				assertEquals(2022, recentChanges.getYearSince(repository, head, "c.txt", 2021));
+				assertNull(recentChanges.getYearSince(repository, head, "b.txt", 2021));
+
+				assertEquals(2020, recentChanges.getYearSince(repository, head, "b.txt", 2019));
+				assertNull(recentChanges.getYearSince(repository, head, "a.txt", 2019));
+
+				assertEquals(2018, recentChanges.getYearSince(repository, head, "a.txt", 2010));
+			}
+		}
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.test.git;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.revwalk.RevCommit;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+final class GitTestUtils {
+	private GitTestUtils() {
+		throw new UnsupportedOperationException("GitTestUtils only contains static definitions.");
+	}
+
+	/**
+	 * Writes the given files with unique content and commits them as if authored during the given year.
+	 *
+	 * @param git the Git instance
+	 * @param year the year of the commit
+	 * @param paths the paths of the files to write, relative to the repository root
+	 * @return the commit
+	 */
+	static RevCommit commit(Git git, int year, String... paths) throws Exception {
+		Path repoDir = git.getRepository().getWorkTree().toPath();
+
+		for (var path : paths) {
+			write(repoDir, path, path + " " + year + " " + System.nanoTime());
+			git.add().addFilepattern(path).call();
+		}
+
+		return commitStaged(git, year);
+	}
+
+	/**
+	 * Commits the staged changes as if authored during the given year.
+	 *
+	 * @param git the Git instance
+	 * @param year the year of the commit
+	 * @return the commit
+	 */
+	static RevCommit commitStaged(Git git, int year) throws Exception {
+		Instant when = ZonedDateTime.of(year, 6, 1, 12, 0, 0, 0, ZoneOffset.UTC).toInstant();
+		var ident = new PersonIdent("Test", "test@example.com", when, ZoneOffset.UTC);
+		return git.commit().setMessage("Commit " + year).setAuthor(ident).setCommitter(ident).call();
+	}
+
+	static void write(Path repoDir, String path, String content) throws Exception {
+		var file = repoDir.resolve(path);
+		Files.createDirectories(file.getParent());
+		Files.writeString(file, content);
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.test.git;
+
+import dev.yumi.gradle.licenser.impl.git.GitWorkingTreeStatus;
+import org.eclipse.jgit.api.Git;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GitWorkingTreeStatusTest {
+	@TempDir
+	Path repoDir;
+
+	@Test
+	void testDirtyPaths() throws Exception {
+		try (var git = Git.init().setDirectory(this.repoDir.toFile()).call()) {
+			GitTestUtils.commit(git, 2020, "clean.txt", "modified.txt", "staged.txt");
+
+			GitTestUtils.write(this.repoDir, "modified.txt", "Modified.");
+			GitTestUtils.write(this.repoDir, "staged.txt", "Staged.");
+			git.add().addFilepattern("staged.txt").call();
+			GitTestUtils.write(this.repoDir, "untracked.txt", "Untracked.");
+
+			var status = new GitWorkingTreeStatus();
+			status.register(List.of("clean.txt", "modified.txt", "staged.txt", "untracked.txt"));
+
+			var repository = git.getRepository();
+			assertEquals(false, status.isDirty(repository, "clean.txt"));
+			assertEquals(true, status.isDirty(repository, "modified.txt"));
+			assertEquals(true, status.isDirty(repository, "staged.txt"));
+			assertEquals(true, status.isDirty(repository, "untracked.txt"));
+			assertNull(status.isDirty(repository, "unregistered.txt"), "Unregistered paths should not have a status.");
+		}
+	}
+}
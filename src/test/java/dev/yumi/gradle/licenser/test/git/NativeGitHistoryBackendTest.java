@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.test.git;
+
+import dev.yumi.gradle.licenser.impl.git.GitHistoryIndex;
+import dev.yumi.gradle.licenser.impl.git.JGitHistoryBackend;
+import dev.yumi.gradle.licenser.impl.git.NativeGitHistoryBackend;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Constants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NativeGitHistoryBackendTest {
+	@TempDir
+	Path repoDir;
+
+	@Test
+	void testNativeWalkMatchesJGit() throws Exception {
+		if (!NativeGitHistoryBackend.isAvailable()) {
+			return;
+		}
+
+		try (var git = Git.init().setDirectory(this.repoDir.toFile()).call()) {
+			var first = GitTestUtils.commit(git, 2019, "a.txt", "dir/b.txt", "c.txt");
+			GitTestUtils.commit(git, 2021, "dir/b.txt");
+			GitTestUtils.commit(git, 2023, "c.txt");
+
+			var head = git.getRepository().resolve(Constants.HEAD);
+			var paths = List.of("a.txt", "dir/b.txt", "c.txt", "missing.txt");
+			var backend = new NativeGitHistoryBackend(this.repoDir, (reader, start, stop, walkedPaths) -> {
+				throw new AssertionError("The native backend should not fall back.");
+			});
+
+			try (var reader = git.getRepository().newObjectReader()) {
+				assertEquals(
+						JGitHistoryBackend.DEFAULT.walk(reader, head, null, paths),
+						backend.walk(reader, head, null, paths)
+				);
+
+				var sinceFirst = backend.walk(reader, head, first, paths);
+				assertEquals(GitHistoryIndex.UNTRACKED, sinceFirst.get("a.txt"));
+				assertEquals(2021, sinceFirst.get("dir/b.txt"));
+				assertEquals(2023, sinceFirst.get("c.txt"));
+			}
+		}
+	}
+
+	@Test
+	void testNativeWalkReadsQuotedPaths() throws Exception {
+		if (!NativeGitHistoryBackend.isAvailable()) {
+			return;
+		}
+
+		try (var git = Git.init().setDirectory(this.repoDir.toFile()).call()) {
+			// Would hide the paths of the root commit if the configuration of the user got applied.
+			var config = git.getRepository().getConfig();
+			config.setBoolean("log", null, "showRoot", false);
+			config.save();
+
+			GitTestUtils.commit(git, 2019, "dir/quote\"d.txt", "tab\tname.txt", "back\\slash.txt");
+			GitTestUtils.commit(git, 2022, "tab\tname.txt");
+
+			var head = git.getRepository().resolve(Constants.HEAD);
+			var paths = List.of("dir/quote\"d.txt", "tab\tname.txt", "back\\slash.txt");
+			var backend = new NativeGitHistoryBackend(this.repoDir, (reader, start, stop, walkedPaths) -> {
+				throw new AssertionError("The native backend should not fall back.");
+			});
+
+			try (var reader = git.getRepository().newObjectReader()) {
+				var years = backend.walk(reader, head, null, paths);
+
+				assertEquals(2019, years.get("dir/quote\"d.txt"));
+				assertEquals(2022, years.get("tab\tname.txt"));
+				assertEquals(2019, years.get("back\\slash.txt"));
+			}
+		}
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.test.git;
+
+import dev.yumi.gradle.licenser.api.rule.LicenseYearBackend;
+import dev.yumi.gradle.licenser.impl.git.GitCreationIndex;
+import dev.yumi.gradle.licenser.impl.git.GitRepositories;
+import dev.yumi.gradle.licenser.impl.git.RepositoryOptions;
+import dev.yumi.gradle.licenser.impl.git.SharedGitRepository;
+import org.eclipse.jgit.api.Git;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SharedGitRepositoryTest {
+	@TempDir
+	Path repoDir;
+
+	@Test
+	void testProjectYearIsLatestCommitYear() throws Exception {
+		try (var git = Git.init().setDirectory(this.repoDir.toFile()).call()) {
+			GitTestUtils.commit(git, 2017, "a.txt");
+			GitTestUtils.commit(git, 2020, "b.txt");
+		}
+
+		try (var repository = SharedGitRepository.open(this.repoDir)) {
+			assertNotNull(repository);
+			repository.registerFiles(List.of("a.txt", "b.txt"));
+
+			assertEquals(2020, repository.getModificationYear(this.repoDir));
+			assertEquals(2017, repository.getModificationYear(this.repoDir.resolve("a.txt")));
+		}
+	}
+
+	@Test
+	void testProjectYearOfSubdirectoryIsShared() throws Exception {
+		try (var git = Git.init().setDirectory(this.repoDir.toFile()).call()) {
+			GitTestUtils.commit(git, 2017, "project/a.txt");
+			GitTestUtils.commit(git, 2019, "other/b.txt");
+
+			var projectDir = this.repoDir.resolve("project");
+
+			try (var repository = SharedGitRepository.open(projectDir)) {
+				assertNotNull(repository);
+				assertEquals(2017, repository.getModificationYear(projectDir));
+
+				// Computed once per build, like the repository root.
+				GitTestUtils.commit(git, 2021, "project/a.txt");
+				assertEquals(2017, repository.getModificationYear(projectDir));
+			}
+		}
+	}
+
+	@Test
+	void testLookupsWaitForRegistrations() throws Exception {
+		try (var git = Git.init().setDirectory(this.repoDir.toFile()).call()) {
+			GitTestUtils.commit(git, 2017, "a.txt");
+			GitTestUtils.commit(git, 2020, "b.txt");
+		}
+
+		try (var repositories = new GitRepositories()) {
+			var options = new RepositoryOptions(
+					this.repoDir.resolve(".cache"), GitCreationIndex.DEFAULT_RENAME_LIMIT, false, LicenseYearBackend.JGIT
+			);
+			var year = new CompletableFuture<Integer>();
+
+			try (var registration = repositories.openRegistration(this.repoDir, options)) {
+				registration.register(List.of(this.repoDir.resolve("a.txt")));
+
+				var lookup = new Thread(() -> year.complete(
+						repositories.getModificationYear(this.repoDir, this.repoDir.resolve("a.txt"))
+				));
+				lookup.start();
+
+				// The lookup is held until the registration is closed.
+				assertThrows(TimeoutException.class, () -> year.get(200, TimeUnit.MILLISECONDS));
+				registration.register(List.of(this.repoDir.resolve("b.txt")));
+			}
+
+			assertEquals(2017, year.get(10, TimeUnit.SECONDS));
+			assertEquals(2020, repositories.getModificationYear(this.repoDir, this.repoDir.resolve("b.txt")));
+		}
+	}
+}
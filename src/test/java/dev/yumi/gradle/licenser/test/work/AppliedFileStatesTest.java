@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.test.work;
+
+import dev.yumi.gradle.licenser.impl.AppliedFileStates;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AppliedFileStatesTest {
+	@TempDir
+	Path projectDir;
+
+	@Test
+	void testStatesFollowContent() throws Exception {
+		var stateFile = this.projectDir.resolve("build/state.bin");
+		var a = Files.writeString(this.projectDir.resolve("A.java"), "class A {}");
+		var b = Files.writeString(this.projectDir.resolve("B.java"), "class B {}");
+
+		var states = new AppliedFileStates("fingerprint");
+		assertFalse(states.isUpToDate(a));
+		states.record(a, 1000);
+		states.record(b, -1);
+		states.save(stateFile);
+
+		var loaded = AppliedFileStates.load(stateFile, "fingerprint");
+		assertTrue(loaded.isUpToDate(a));
+		assertEquals(1000, loaded.getCost(a));
+
+		// Touched files with the same content are still up to date.
+		Files.setLastModifiedTime(a, FileTime.fromMillis(Files.getLastModifiedTime(a).toMillis() + 10_000));
+		assertTrue(loaded.isUpToDate(a));
+
+		Files.writeString(b, "class B { }");
+		assertFalse(loaded.isUpToDate(b));
+
+		var next = new AppliedFileStates("fingerprint");
+		loaded.copyTo(a, next);
+		loaded.copyTo(b, next);
+		assertTrue(next.isUpToDate(a));
+		assertEquals(-1, next.getCost(b));
+		assertFalse(next.isUpToDate(b));
+	}
+
+	@Test
+	void testRacyFilesAreHashed() throws Exception {
+		var stateFile = this.projectDir.resolve("build/state.bin");
+		var a = Files.writeString(this.projectDir.resolve("A.java"), "class A {}");
+		// Modified at the time the states get saved, as seen by a coarse file system clock.
+		var lastModified = FileTime.fromMillis(System.currentTimeMillis() + 60_000);
+		Files.setLastModifiedTime(a, lastModified);
+
+		var states = new AppliedFileStates("fingerprint");
+		states.record(a, 1000);
+		states.save(stateFile);
+
+		// Changed afterwards within the same tick, so neither its size nor its last modified time changed.
+		Files.writeString(a, "class B {}");
+		Files.setLastModifiedTime(a, lastModified);
+
+		var loaded = AppliedFileStates.load(stateFile, "fingerprint");
+		assertFalse(loaded.isUpToDate(a));
+		assertEquals(1000, loaded.getCost(a));
+	}
+
+	@Test
+	void testDifferentFingerprintDiscardsStates() throws Exception {
+		var stateFile = this.projectDir.resolve("build/state.bin");
+		var a = Files.writeString(this.projectDir.resolve("A.java"), "class A {}");
+
+		var states = new AppliedFileStates("fingerprint");
+		states.record(a, 1000);
+		states.save(stateFile);
+
+		assertFalse(AppliedFileStates.load(stateFile, "other").isUpToDate(a));
+	}
+}
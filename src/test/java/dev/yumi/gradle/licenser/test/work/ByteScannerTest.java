@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.test.work;
+
+import dev.yumi.gradle.licenser.impl.ByteScanner;
+import dev.yumi.gradle.licenser.util.Utils;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ByteScannerTest {
+	@Test
+	void testScalarByDefault() {
+		assertFalse(ByteScanner.create(false).isVectorized());
+	}
+
+	@Test
+	void testVectorizedWhenEnabled() {
+		// Only enabled by the vectorTest task, which adds the incubator module.
+		assertEquals(Boolean.getBoolean(ByteScanner.VECTOR_PROPERTY), ByteScanner.get().isVectorized());
+	}
+
+	@Test
+	void testScannersAgree() {
+		var scalar = ByteScanner.create(false);
+		// Scalar as well if the Vector API isn't available.
+		var vector = ByteScanner.create(true);
+		var random = new Random(42);
+		var bytes = new byte[300];
+
+		for (int i = 0; i < bytes.length; i++) {
+			// Few distinct values, so that each is found many times.
+			bytes[i] = (byte) (random.nextInt(8) == 0 ? '\n' : random.nextInt(4) - 2);
+		}
+
+		// Sliced, so that the content doesn't start at the start of the backing array.
+		var source = ByteBuffer.wrap(bytes).position(7).slice().limit(250);
+
+		for (byte value : new byte[] {'\n', -2, -1, 0, 1, '*'}) {
+			for (int from = -1; from <= source.limit() + 1; from++) {
+				int expected = scalar.indexOf(source, value, from);
+
+				assertEquals(expected, vector.indexOf(source, value, from));
+				assertEquals(expected, vector.indexOf(source.asReadOnlyBuffer(), value, from));
+			}
+		}
+	}
+
+	@Test
+	void testPatternSearch() {
+		var source = ByteBuffer.wrap("/*\n * a/b **/ */\n".getBytes(StandardCharsets.UTF_8));
+		var commentEnd = new byte[] {'*', '/'};
+
+		assertEquals(11, Utils.indexOf(source, commentEnd, 0));
+		assertEquals(11, Utils.indexOf(source, commentEnd, 11));
+		assertEquals(14, Utils.indexOf(source, commentEnd, 12));
+		assertEquals(-1, Utils.indexOf(source, commentEnd, 15));
+		assertEquals(-1, Utils.indexOf(source, new byte[] {'-', '-', '>'}, 0));
+		assertEquals("\n", Utils.extractLineSeparator(source, false));
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.test.work;
+
+import dev.yumi.gradle.licenser.impl.FilePipeline;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FilePipelineTest {
+	@Test
+	void testPipelineKeepsOrderAndBoundsStages() {
+		var files = IntStream.range(0, 200).boxed().toList();
+		var reading = new AtomicInteger();
+		var maxReading = new AtomicInteger();
+		var inFlight = new AtomicInteger();
+		var maxInFlight = new AtomicInteger();
+
+		var pipeline = new FilePipeline<Integer, Integer, String, String>(
+				file -> {
+					maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+					maxReading.accumulateAndGet(reading.incrementAndGet(), Math::max);
+					reading.decrementAndGet();
+					return file * 2;
+				},
+				read -> "#" + read,
+				written -> {
+					sleep();
+					inFlight.decrementAndGet();
+					return written + "!";
+				},
+				new FilePipeline.Limits(2, 1, 4)
+		);
+
+		assertEquals(files.stream().map(file -> "#" + (file * 2) + "!").toList(), pipeline.process(files));
+		assertTrue(maxReading.get() <= 2, "No more than 2 files should be read at once.");
+		// 2 queues, 2 readers, 2 writers and 1 transformer.
+		assertTrue(maxInFlight.get() <= 2 * 4 + 2 * 2 + 1, "Slow writes should hold back reads.");
+	}
+
+	@Test
+	void testFailureIsRethrown() {
+		var pipeline = new FilePipeline<Integer, Integer, Integer, Integer>(
+				file -> file,
+				read -> {
+					if (read == 50) {
+						throw new IllegalArgumentException("Invalid file.");
+					}
+
+					return read;
+				},
+				written -> written,
+				new FilePipeline.Limits(2, 2, 2)
+		);
+
+		var exception = assertThrows(IllegalArgumentException.class,
+				() -> pipeline.process(IntStream.range(0, 100).boxed().toList())
+		);
+		assertEquals("Invalid file.", exception.getMessage());
+	}
+
+	@Test
+	void testSingleFile() {
+		var pipeline = new FilePipeline<Integer, Integer, Integer, Integer>(
+				file -> file + 1, read -> read * 2, written -> written - 1, new FilePipeline.Limits(1, 1, 1)
+		);
+
+		assertEquals(List.of(3), pipeline.process(List.of(1)));
+		assertEquals(List.of(), pipeline.process(List.of()));
+	}
+
+	private static void sleep() {
+		try {
+			Thread.sleep(1);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
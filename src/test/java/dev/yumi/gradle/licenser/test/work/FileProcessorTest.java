@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.test.work;
+
+import dev.yumi.gradle.licenser.impl.FileProcessor;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileProcessorTest {
+	@Test
+	void testConcurrentProcessingKeepsOrder() {
+		var files = IntStream.range(0, 64).boxed().toList();
+		var running = new AtomicInteger();
+		var maxRunning = new AtomicInteger();
+
+		try (var processor = FileProcessor.create(4)) {
+			assertTrue(processor.isConcurrent());
+
+			var results = processor.process(files, file -> {
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+
+				try {
+					Thread.sleep(2);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+
+				running.decrementAndGet();
+				return file * 2;
+			});
+
+			assertEquals(files.stream().map(file -> file * 2).toList(), results);
+		}
+
+		assertTrue(maxRunning.get() <= 4, "No more than 4 files should be processed at once.");
+	}
+
+	@Test
+	void testFailureIsRethrown() {
+		try (var processor = FileProcessor.create(2)) {
+			var exception = assertThrows(IllegalArgumentException.class, () -> processor.process(List.of(1, 2, 3), file -> {
+				if (file == 2) {
+					throw new IllegalArgumentException("Invalid file.");
+				}
+
+				return file;
+			}));
+
+			assertEquals("Invalid file.", exception.getMessage());
+		}
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.test.work;
+
+import dev.yumi.gradle.licenser.api.comment.CStyleHeaderComment;
+import dev.yumi.gradle.licenser.impl.FileRewriter;
+import dev.yumi.gradle.licenser.impl.HeaderWindow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileRewriterTest {
+	@TempDir
+	Path projectDir;
+
+	@Test
+	void testReplaceHeader() throws Exception {
+		String body = "\n\nclass A { String s = \"\u00e9\ud83d\ude00\"; }\n".repeat(1000);
+		var file = Files.writeString(this.projectDir.resolve("A.java"), "/*\n * Old \u00e9 \ud83d\ude00 header\n */" + body);
+
+		var window = HeaderWindow.read(file, CStyleHeaderComment.INSTANCE);
+		FileRewriter.replaceStart(file, "/*\n * New header\n */", window.result().end());
+
+		assertEquals("/*\n * New header\n */" + body, Files.readString(file));
+
+		try (var files = Files.list(this.projectDir)) {
+			assertEquals(1L, files.count(), "The temporary file should be moved into place.");
+		}
+	}
+
+	@Test
+	void testPatchSameLengthHeaderInPlace() throws Exception {
+		String body = "\n\nclass A {}\n";
+		var file = Files.writeString(this.projectDir.resolve("A.java"), "/*\n * Copyright 2024-2025 Yumi\n */" + body);
+		Object fileKey = Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+
+		var window = HeaderWindow.read(file, CStyleHeaderComment.INSTANCE);
+		FileRewriter.replaceStart(file, "/*\n * Copyright 2024-2026 Yumi\n */", window.result().end());
+
+		assertEquals("/*\n * Copyright 2024-2026 Yumi\n */" + body, Files.readString(file));
+
+		if (fileKey != null) {
+			assertEquals(fileKey, Files.readAttributes(file, BasicFileAttributes.class).fileKey(),
+					"The file should be patched in place."
+			);
+		}
+	}
+
+	@Test
+	void testKeepsPermissions() throws Exception {
+		var file = Files.writeString(this.projectDir.resolve("run.sh"), "#!/bin/sh\necho hi\n");
+
+		if (Files.getFileAttributeView(file, PosixFileAttributeView.class) == null) {
+			return;
+		}
+
+		var permissions = PosixFilePermissions.fromString("rwxr-xr--");
+		Files.setPosixFilePermissions(file, permissions);
+
+		FileRewriter.replaceStart(file, "#!/bin/bash\n", "#!/bin/sh\n".length());
+
+		assertEquals("#!/bin/bash\necho hi\n", Files.readString(file));
+		assertEquals(permissions, Files.getPosixFilePermissions(file));
+	}
+}
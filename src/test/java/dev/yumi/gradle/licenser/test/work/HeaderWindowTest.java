@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.test.work;
+
+import dev.yumi.gradle.licenser.api.comment.CStyleHeaderComment;
+import dev.yumi.gradle.licenser.api.comment.HeaderComment;
+import dev.yumi.gradle.licenser.impl.HeaderWindow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeaderWindowTest {
+	@TempDir
+	Path projectDir;
+
+	@Test
+	void testReadsOnlyTheHeader() throws Exception {
+		String header = "/*\n * Sample License Header \u2013 \u00a9\n */";
+		String source = header + "\n\nclass A {}\n" + "// Generated.\n".repeat(100_000);
+		var file = Files.writeString(this.projectDir.resolve("A.java"), source);
+
+		var window = HeaderWindow.read(file, CStyleHeaderComment.INSTANCE);
+
+		assertEquals("", window.prefix());
+		assertEquals(CStyleHeaderComment.INSTANCE.readHeaderComment(source).existing(), window.result().existing());
+		assertEquals(header.getBytes(StandardCharsets.UTF_8).length, window.result().end());
+	}
+
+	@Test
+	void testGrowsWithLongHeaders() throws Exception {
+		String source = "\n\n/*\n" + " * Long license text with \u00fcn\u00efc\u00f6d\u00e9.\n".repeat(2000) + " */\n\nclass A {}\n";
+		var file = Files.writeString(this.projectDir.resolve("A.java"), source);
+
+		var window = HeaderWindow.read(file, CStyleHeaderComment.INSTANCE);
+		var expected = CStyleHeaderComment.INSTANCE.readHeaderComment(source);
+
+		assertEquals("\n\n", window.prefix());
+		assertEquals(expected.existing(), window.result().existing());
+		assertEquals(source.substring(0, expected.end()).getBytes(StandardCharsets.UTF_8).length, window.result().end());
+	}
+
+	@Test
+	void testSmallFilesAreComplete() throws Exception {
+		var file = Files.writeString(this.projectDir.resolve("A.java"), "class A {}\n");
+
+		var window = HeaderWindow.read(file, CStyleHeaderComment.INSTANCE);
+
+		assertEquals("", window.prefix());
+		assertNull(window.result().existing());
+	}
+
+	@Test
+	void testOnlyTheHeaderIsDecoded() throws Exception {
+		var file = Files.write(this.projectDir.resolve("A.java"), new byte[] {'/', '*', ' ', 'H', ' ', '*', '/', '\n', (byte) 0xff});
+
+		assertEquals(List.of("H"), HeaderWindow.read(file, CStyleHeaderComment.INSTANCE).result().existing());
+
+		var invalidHeader = Files.write(this.projectDir.resolve("B.java"), new byte[] {'/', '*', (byte) 0xff, '*', '/', '\n'});
+
+		assertThrows(MalformedInputException.class, () -> HeaderWindow.read(invalidHeader, CStyleHeaderComment.INSTANCE));
+	}
+
+	@Test
+	void testIncompleteReadersFail() throws Exception {
+		var file = Files.writeString(this.projectDir.resolve("A.java"), "class A {}\n");
+		HeaderComment reader = new HeaderComment() {
+			@Override
+			public HeaderComment.Result readHeaderComment(String source) {
+				return CStyleHeaderComment.INSTANCE.readHeaderComment(source);
+			}
+
+			@Override
+			public HeaderComment.Result readHeaderComment(ByteBuffer start, boolean complete) {
+				return null;
+			}
+
+			@Override
+			public String writeHeaderComment(List<String> header, String separator) {
+				return CStyleHeaderComment.INSTANCE.writeHeaderComment(header, separator);
+			}
+		};
+
+		assertThrows(IllegalStateException.class, () -> HeaderWindow.read(file, reader));
+	}
+}
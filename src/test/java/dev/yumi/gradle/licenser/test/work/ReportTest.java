@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.test.work;
+
+import dev.yumi.gradle.licenser.task.work.ApplyLicenseWorkAction.ApplyReportDetails;
+import dev.yumi.gradle.licenser.task.work.LicenseWorkAction.Report;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportTest {
+	@Test
+	void testBinaryRoundTrip() throws Exception {
+		var reports = new LinkedHashMap<String, Report<?>>();
+		reports.put("b.java", new Report<>(List.of("=> Visiting b.java...", "  => Found rule in lookup."), new ApplyReportDetails(true), 1500));
+		reports.put("a.java", new Report<>(List.of(), new ApplyReportDetails(false), 20));
+
+		var bytes = new ByteArrayOutputStream();
+
+		try (var out = new DataOutputStream(bytes)) {
+			Report.write(out, reports);
+		}
+
+		try (var in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			var read = Report.read(in, ApplyReportDetails::read);
+
+			assertEquals(reports, read);
+			assertEquals(List.of("b.java", "a.java"), List.copyOf(read.keySet()));
+		}
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.test.work;
+
+import dev.yumi.gradle.licenser.task.work.WorkBatches;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkBatchesTest {
+	@Test
+	void testScheduleLongestFirst() {
+		var files = List.of("a", "b", "c", "d", "e", "f");
+		var schedule = WorkBatches.schedule(files, new long[] {10, 10, 10, 10, 20, 20}, 3);
+
+		assertEquals(List.of(List.of("e", "c"), List.of("f", "d"), List.of("a", "b")), schedule.batches());
+		assertArrayEquals(new long[] {30, 30, 20}, schedule.loads());
+	}
+
+	@Test
+	void testScheduleIsolatesCostlyFile() {
+		var files = List.of("small1", "small2", "large", "small3", "small4");
+		var schedule = WorkBatches.schedule(files, new long[] {1, 1, 1000, 1, 1}, 2);
+
+		assertEquals(List.of(List.of("large"), List.of("small1", "small2", "small3", "small4")), schedule.batches());
+		assertArrayEquals(new long[] {1000, 4}, schedule.loads());
+	}
+
+	@Test
+	void testScheduleWithFewerFilesThanBatches() {
+		assertEquals(List.of(List.of("b"), List.of("a")), WorkBatches.schedule(List.of("a", "b"), new long[] {1, 2}, 8).batches());
+		assertEquals(List.of(), WorkBatches.schedule(List.<String>of(), new long[0], 8).batches());
+	}
+
+	@Test
+	void testEstimateCosts() {
+		var sizes = Map.of("a", 100L, "b", 200L, "c", 50L, "d", 0L);
+		var observed = Map.of("a", 1000L, "b", 3000L);
+		var files = List.of("a", "b", "c", "d");
+
+		// 4000 nanoseconds for 300 bytes.
+		var costs = WorkBatches.estimateCosts(files, sizes::get, file -> observed.getOrDefault(file, -1L));
+
+		assertArrayEquals(new long[] {1000, 3000, 667, 13}, costs);
+	}
+
+	@Test
+	void testEstimateCostsWithoutObservations() {
+		var costs = WorkBatches.estimateCosts(List.of(10L, 0L, 30L), Long::longValue, file -> -1);
+
+		assertArrayEquals(new long[] {10, 1, 30}, costs);
+	}
+
+	@Test
+	void testImbalance() {
+		assertEquals(1.0, WorkBatches.getImbalance(new long[] {5, 5, 5}));
+		assertEquals(1.5, WorkBatches.getImbalance(new long[] {30, 10}));
+		assertEquals(1.0, WorkBatches.getImbalance(new long[0]));
+	}
+
+	@Test
+	void testChunkSizesGrow() {
+		int size = WorkBatches.FIRST_CHUNK_SIZE;
+		int chunks = 1;
+
+		for (int walked = size; walked < 100_000; walked += size) {
+			size = WorkBatches.getNextChunkSize(size);
+			chunks++;
+		}
+
+		assertEquals(WorkBatches.MAX_CHUNK_SIZE, size);
+		assertTrue(chunks <= 12, "A large tree should be submitted in few chunks.");
+	}
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.test.work;
+
+import dev.yumi.gradle.licenser.task.work.WorkerProcesses;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkerProcessesTest {
+	private static final Path ARCHIVE = Path.of("build", "worker_classes.jsa");
+
+	@Test
+	void testClassDataSharingArguments() {
+		assertEquals(
+				List.of("-Xlog:cds*=off", "-XX:ArchiveClassesAtExit=" + ARCHIVE),
+				WorkerProcesses.getClassDataSharingArguments(ARCHIVE, 17, false)
+		);
+		assertEquals(
+				List.of("-Xlog:cds*=off", "-XX:SharedArchiveFile=" + ARCHIVE),
+				WorkerProcesses.getClassDataSharingArguments(ARCHIVE, 17, true)
+		);
+		assertEquals(
+				List.of("-Xlog:cds*=off", "-XX:SharedArchiveFile=" + ARCHIVE, "-XX:+AutoCreateSharedArchive"),
+				WorkerProcesses.getClassDataSharingArguments(ARCHIVE, 21, false)
+		);
+	}
+}
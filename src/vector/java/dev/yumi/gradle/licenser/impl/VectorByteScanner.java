@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Yumi Project
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ */
+
+package dev.yumi.gradle.licenser.impl;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Represents a scanner built on the Vector API, which compares as many bytes at once as the platform allows.
+ * <p>
+ * Only sources backed by an array are scanned this way, others and the bytes past the last full vector
+ * are compared one by one.
+ *
+ * @author LambdAurora
+ * @version 4.1.0
+ * @see ByteScanner#create(boolean)
+ * @since 4.1.0
+ */
+@ApiStatus.Internal
+final class VectorByteScanner extends ByteScanner {
+	private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+	@Override
+	public int indexOf(ByteBuffer source, byte value, int from) {
+		int i = Math.max(0, from);
+		int limit = source.limit();
+
+		if (source.hasArray()) {
+			byte[] array = source.array();
+			int offset = source.arrayOffset();
+
+			for (int last = limit - SPECIES.length(); i <= last; i += SPECIES.length()) {
+				var matches = ByteVector.fromArray(SPECIES, array, offset + i).compare(VectorOperators.EQ, value);
+
+				if (matches.anyTrue()) {
+					return i + matches.firstTrue();
+				}
+			}
+		}
+
+		return indexOf(source, value, i, limit);
+	}
+}